@@ -0,0 +1,149 @@
+package duke.cli;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import duke.Duke;
+import duke.exception.StorageFileException;
+import duke.ui.ResponseSink;
+
+/**
+ * A BatchRunner feeds a script of commands, one per line, into Duke and streams the responses to a Writer.
+ * The commands are read and run one at a time as they come in, so scripts of any length can be run with little
+ * memory, and each response is streamed into the Writer as it is produced. Saving the TaskList is deferred while
+ * the script runs: the storage file is written at every checkpoint and once more at the end, instead of after
+ * every command that changes the TaskList. It is only written if the TaskList changed since it was last written.
+ */
+public class BatchRunner {
+    private static final String USAGE = "Usage: BatchRunner --batch FILE|- [--file TASK_FILE] [--checkpoint LINES]";
+    private static final String DEFAULT_FILE_PATH = "data/tasks.txt";
+    private static final String STDIN = "-";
+
+    private final Duke duke;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a BatchRunner that runs commands against the given Duke.
+     *
+     * @param duke The Duke that runs the commands
+     * @param checkpointInterval The number of commands between two writes of the storage file,
+     *                           or 0 to only write it at the end
+     */
+    public BatchRunner(Duke duke, int checkpointInterval) {
+        this.duke = duke;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs every command from the given Reader and writes each response, followed by a new line, to the given Writer.
+     * Blank lines are skipped.
+     *
+     * @param commands The Reader to read the commands from
+     * @param responses The Writer to write the responses to
+     * @return The number of commands that were run
+     * @throws IOException if the commands cannot be read or the responses cannot be written
+     * @throws StorageFileException if the storage file cannot be written
+     */
+    public long run(Reader commands, Writer responses) throws IOException, StorageFileException {
+        BufferedReader reader = new BufferedReader(commands);
+        ResponseSink sink = ResponseSink.of(responses);
+        long count = 0;
+        long savedVersion = this.duke.getVersion();
+
+        this.duke.setSavesDeferred(true);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    this.duke.respond(line, sink);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                responses.write('\n');
+                count++;
+
+                // Write the storage file at every checkpoint
+                if (this.checkpointInterval > 0 && count % this.checkpointInterval == 0) {
+                    savedVersion = flushIfChanged(savedVersion);
+                }
+            }
+        } finally {
+            // Write whatever is left, even if the script stops half way
+            this.duke.setSavesDeferred(false);
+            flushIfChanged(savedVersion);
+            responses.flush();
+        }
+        return count;
+    }
+
+    /**
+     * Writes the storage file if the TaskList changed since it was last written, so that a script of queries
+     * never rewrites the storage file.
+     *
+     * @param savedVersion The version of the TaskList in the storage file
+     * @return The version of the TaskList in the storage file afterwards
+     * @throws StorageFileException if the storage file cannot be written
+     */
+    private long flushIfChanged(long savedVersion) throws StorageFileException {
+        long version = this.duke.getVersion();
+        if (version != savedVersion) {
+            this.duke.flush();
+        }
+        return version;
+    }
+
+    /**
+     * Runs a script of commands against the task file and prints the responses to the standard output.
+     *
+     * @param args --batch followed by the script file, or "-" to read the script from the standard input,
+     *             and optionally --file and --checkpoint
+     * @throws IOException if the script cannot be read
+     * @throws StorageFileException if the task file cannot be written
+     */
+    public static void main(String[] args) throws IOException, StorageFileException {
+        String scriptPath = null;
+        String filePath = DEFAULT_FILE_PATH;
+        int checkpointInterval = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--batch":
+                scriptPath = args[i + 1];
+                break;
+            case "--file":
+                filePath = args[i + 1];
+                break;
+            case "--checkpoint":
+                checkpointInterval = Integer.parseInt(args[i + 1]);
+                break;
+            default:
+                System.err.println(USAGE);
+                return;
+            }
+        }
+        if (scriptPath == null || args.length % 2 != 0) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        BatchRunner runner = new BatchRunner(new Duke(filePath), checkpointInterval);
+        InputStream script = STDIN.equals(scriptPath) ? System.in : new FileInputStream(scriptPath);
+        try (Reader commands = new InputStreamReader(script, StandardCharsets.UTF_8);
+                Writer responses = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                        1 << 16)) {
+            runner.run(commands, responses);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package duke.load;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import duke.parser.Parser.Instruction;
+
+/**
+ * A CommandMix picks user inputs at random, each Instruction with its own weight, for the LoadDriver.
+ * Inputs are filled in with random task numbers, words and dates, so that repeated queries are not all
+ * answered by the same cached response.
+ */
+class CommandMix {
+    static final String DEFAULT_MIX = "list:15,find:20,view:10,reminder:5,free:2,sort:1,todo:10,deadline:8,"
+            + "event:5,fixed:2,mark:8,unmark:5,update:5,delete:4";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DATE_SPREAD_DAYS = 30;
+
+    private final List<Instruction> instructions = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final List<String> vocabulary;
+    private final LocalDate today = LocalDate.now();
+
+    /**
+     * Creates a CommandMix.
+     *
+     * @param weights The relative weight of each Instruction
+     * @param vocabulary The words that descriptions and searches are made of
+     */
+    CommandMix(Map<Instruction, Integer> weights, List<String> vocabulary) {
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<Instruction, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            this.cumulativeWeights[this.instructions.size()] = total;
+            this.instructions.add(entry.getKey());
+        }
+        assert total > 0 : "At least one Instruction should have a positive weight";
+        this.vocabulary = List.copyOf(vocabulary);
+    }
+
+    /**
+     * Picks the Instruction of the next input.
+     *
+     * @param random The source of randomness of the calling thread
+     * @return The Instruction
+     */
+    Instruction nextInstruction(Random random) {
+        int pick = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (pick < this.cumulativeWeights[i]) {
+                return this.instructions.get(i);
+            }
+        }
+        throw new AssertionError("The pick is always below the total weight");
+    }
+
+    /**
+     * Creates an input of the given Instruction.
+     *
+     * @param instruction The Instruction of the input
+     * @param random The source of randomness of the calling thread
+     * @param noOfTasks The number of tasks in the list, which bounds the task numbers that are picked
+     * @return The input
+     */
+    String createInput(Instruction instruction, Random random, int noOfTasks) {
+        int index = 1 + random.nextInt(Math.max(1, noOfTasks));
+        switch (instruction) {
+        case LIST:
+            return random.nextInt(4) == 0 ? "list --undone" : "list page " + (1 + random.nextInt(5));
+        case FIND:
+            return "find " + nextWord(random);
+        case VIEW:
+            return "view " + nextDate(random).format(DATE_FORMATTER);
+        case HELP:
+            return "help";
+        case MARK:
+            return "mark " + index;
+        case UNMARK:
+            return "unmark " + index;
+        case DELETE:
+            return "delete " + index;
+        case UPDATE:
+            return "update " + index + " " + nextWord(random) + " " + nextWord(random);
+        case TODO:
+            return "todo " + nextWord(random) + " " + nextWord(random);
+        case DEADLINE:
+            return "deadline " + nextWord(random) + " /by " + nextDate(random).format(DATE_FORMATTER) + " 1800";
+        case EVENT:
+            String date = nextDate(random).format(DATE_FORMATTER);
+            return "event " + nextWord(random) + " /from " + date + " 1400 /to " + date + " 1500";
+        case FIXED:
+            return "fixed " + nextWord(random) + " /within PT" + (1 + random.nextInt(3)) + "H";
+        default:
+            // The remaining instructions take no information
+            return instruction.name().toLowerCase();
+        }
+    }
+
+    private String nextWord(Random random) {
+        return this.vocabulary.get(random.nextInt(this.vocabulary.size()));
+    }
+
+    private LocalDate nextDate(Random random) {
+        return this.today.plusDays(random.nextInt(2 * DATE_SPREAD_DAYS + 1) - DATE_SPREAD_DAYS);
+    }
+
+    /**
+     * Parses a mix such as "list:15,find:20,todo:10", naming each Instruction by its command word.
+     *
+     * @param text The mix
+     * @return The weight of each Instruction
+     * @throws IllegalArgumentException if the mix names an unknown Instruction or has an invalid weight
+     */
+    static Map<Instruction, Integer> parseMix(String text) {
+        EnumMap<Instruction, Integer> weights = new EnumMap<>(Instruction.class);
+        for (String part : text.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid mix: " + text);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Invalid weight: " + part);
+            }
+            weights.put(Instruction.valueOf(nameAndWeight[0].trim().toUpperCase()), weight);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,358 @@
+package duke.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import duke.Duke;
+import duke.parser.Parser.Instruction;
+
+/**
+ * A LoadDriver replays a weighted mix of commands from several threads, either through
+ * {@link Duke#getResponse(String)} in this process or through the {@code POST /command} endpoint of a DukeServer.
+ * Each thread keeps its own latencies, which are merged at the end into the throughput and the p50, p99 and
+ * p99.9 latency of every Instruction. Commands sent during the warmup are not counted.
+ *
+ * <p>In this process, saves are deferred and never flushed, so the task file is left as it was.
+ * The server saves as usual, so point it at a generated file rather than a real one.
+ */
+public class LoadDriver {
+    private static final String USAGE = "Usage: LoadDriver (--file FILE | --url URL) [--threads THREADS] "
+            + "[--duration SECONDS] [--warmup SECONDS] [--mix list:15,find:20,...] [--size TASKS] [--seed SEED]";
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_DURATION_SECONDS = 10;
+    private static final int DEFAULT_WARMUP_SECONDS = 2;
+    private static final int DEFAULT_SERVER_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final String REPORT_FORMAT = "%-10s %10s %12s %10s %10s %10s %10s %8s%n";
+    private static final String ROW_FORMAT = "%-10s %10d %12.1f %10d %10d %10d %10d %8d%n";
+
+    /**
+     * Something that answers commands, such as a Duke or a DukeServer.
+     */
+    interface Target {
+        /**
+         * Sends the input and waits for the whole response.
+         *
+         * @param input The user input
+         * @return true if the command was answered, or false if the target turned it away
+         * @throws IOException if the target cannot be reached
+         * @throws InterruptedException if the thread is interrupted while waiting
+         */
+        boolean send(String input) throws IOException, InterruptedException;
+    }
+
+    private final Target target;
+    private final CommandMix mix;
+    private final IntSupplier noOfTasks;
+    private final long seed;
+
+    /**
+     * Creates a LoadDriver.
+     *
+     * @param target The target that answers the commands
+     * @param mix The mix of commands to send
+     * @param noOfTasks Gives the number of tasks in the list, which bounds the task numbers in the commands
+     * @param seed The seed of the random choices, which each thread adds its number to
+     */
+    LoadDriver(Target target, CommandMix mix, IntSupplier noOfTasks, long seed) {
+        this.target = target;
+        this.mix = mix;
+        this.noOfTasks = noOfTasks;
+        this.seed = seed;
+    }
+
+    /**
+     * Sends commands from the given number of threads for the warmup and then for the duration.
+     *
+     * @param threads The number of threads
+     * @param warmupNanos How long to send commands before counting them
+     * @param durationNanos How long to count commands for
+     * @return The latencies of the counted commands
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the threads
+     */
+    public Report run(int threads, long warmupNanos, long durationNanos) throws InterruptedException {
+        long measureStart = System.nanoTime() + warmupNanos;
+        long measureEnd = measureStart + durationNanos;
+        Worker[] workers = new Worker[threads];
+        Thread[] runners = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(new Random(this.seed + i), measureStart, measureEnd);
+            runners[i] = new Thread(workers[i], "load-driver-" + i);
+            runners[i].start();
+        }
+        for (Thread runner : runners) {
+            runner.join();
+        }
+
+        Report report = new Report(durationNanos);
+        for (Worker worker : workers) {
+            report.add(worker);
+        }
+        return report;
+    }
+
+    /**
+     * A thread that sends commands until the end of the measurement, recording the latencies of the ones that
+     * started after the warmup. Only the thread itself writes to its latencies until it finishes.
+     */
+    private class Worker implements Runnable {
+        private final Random random;
+        private final long measureStart;
+        private final long measureEnd;
+        private final EnumMap<Instruction, Latencies> latencies = new EnumMap<>(Instruction.class);
+        private final EnumMap<Instruction, Latencies> failures = new EnumMap<>(Instruction.class);
+
+        Worker(Random random, long measureStart, long measureEnd) {
+            this.random = random;
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            while (start < this.measureEnd) {
+                Instruction instruction = mix.nextInstruction(this.random);
+                String input = mix.createInput(instruction, this.random, noOfTasks.getAsInt());
+                boolean isAnswered;
+                try {
+                    isAnswered = target.send(input);
+                } catch (IOException e) {
+                    isAnswered = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long end = System.nanoTime();
+                if (start >= this.measureStart) {
+                    EnumMap<Instruction, Latencies> record = isAnswered ? this.latencies : this.failures;
+                    record.computeIfAbsent(instruction, key -> new Latencies()).add(end - start);
+                }
+                start = end;
+            }
+        }
+    }
+
+    /**
+     * A growing array of latencies in nanoseconds.
+     */
+    private static class Latencies {
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = value;
+        }
+
+        void addAll(Latencies other) {
+            if (this.size + other.size > this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.max(this.size + other.size, this.size * 2));
+            }
+            System.arraycopy(other.values, 0, this.values, this.size, other.size);
+            this.size += other.size;
+        }
+    }
+
+    /**
+     * The merged latencies of all the threads, by Instruction.
+     */
+    public static class Report {
+        private final long durationNanos;
+        private final EnumMap<Instruction, Latencies> latencies = new EnumMap<>(Instruction.class);
+        private final EnumMap<Instruction, Integer> failures = new EnumMap<>(Instruction.class);
+
+        private Report(long durationNanos) {
+            this.durationNanos = durationNanos;
+        }
+
+        private void add(Worker worker) {
+            for (Map.Entry<Instruction, Latencies> entry : worker.latencies.entrySet()) {
+                this.latencies.computeIfAbsent(entry.getKey(), key -> new Latencies()).addAll(entry.getValue());
+            }
+            for (Map.Entry<Instruction, Latencies> entry : worker.failures.entrySet()) {
+                this.failures.merge(entry.getKey(), entry.getValue().size, Integer::sum);
+            }
+        }
+
+        /**
+         * Returns the number of answered commands of the given Instruction.
+         *
+         * @param instruction The Instruction
+         * @return The number of answered commands
+         */
+        public int getCount(Instruction instruction) {
+            Latencies values = this.latencies.get(instruction);
+            return values == null ? 0 : values.size;
+        }
+
+        /**
+         * Returns the number of commands of the given Instruction that failed or were turned away.
+         *
+         * @param instruction The Instruction
+         * @return The number of failed commands
+         */
+        public int getFailures(Instruction instruction) {
+            return this.failures.getOrDefault(instruction, 0);
+        }
+
+        /**
+         * Prints one line per Instruction and a total, with latencies in microseconds.
+         */
+        public void print() {
+            double seconds = this.durationNanos / 1e9;
+            System.out.printf(REPORT_FORMAT, "command", "count", "ops/s", "p50 us", "p99 us", "p99.9 us",
+                    "max us", "failed");
+            Latencies total = new Latencies();
+            int totalFailures = 0;
+            for (Instruction instruction : Instruction.values()) {
+                Latencies values = this.latencies.getOrDefault(instruction, new Latencies());
+                int failed = getFailures(instruction);
+                if (values.size == 0 && failed == 0) {
+                    continue;
+                }
+                printRow(instruction.name().toLowerCase(), values, failed, seconds);
+                total.addAll(values);
+                totalFailures += failed;
+            }
+            printRow("total", total, totalFailures, seconds);
+        }
+
+        private static void printRow(String name, Latencies values, int failed, double seconds) {
+            long[] sorted = Arrays.copyOf(values.values, values.size);
+            Arrays.sort(sorted);
+            System.out.printf(ROW_FORMAT, name, sorted.length, sorted.length / seconds,
+                    toMicros(percentile(sorted, 0.5)), toMicros(percentile(sorted, 0.99)),
+                    toMicros(percentile(sorted, 0.999)), toMicros(percentile(sorted, 1)), failed);
+        }
+
+        /**
+         * Returns the smallest latency that at least the given share of latencies are at or below.
+         */
+        private static long percentile(long[] sorted, double share) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(share * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static long toMicros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+
+    /**
+     * Creates a Target that sends commands to the Duke in this process.
+     *
+     * @param duke The Duke
+     * @return The Target
+     */
+    static Target inProcess(Duke duke) {
+        return input -> {
+            duke.getResponse(input);
+            return true;
+        };
+    }
+
+    /**
+     * Creates a Target that sends commands to the {@code POST /command} endpoint at the given URL.
+     *
+     * @param url The URL of the endpoint
+     * @return The Target
+     */
+    static Target overHttp(String url) {
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create(url);
+        return input -> {
+            HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(input)).build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        };
+    }
+
+    /**
+     * Runs the load and prints the report.
+     *
+     * @param args --file with a task file or --url with the address of a DukeServer's command endpoint,
+     *             and optionally --threads, --duration, --warmup, --mix, --size and --seed
+     * @throws InterruptedException if the main thread is interrupted while waiting for the load to finish
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String filePath = null;
+        String url = null;
+        int threads = DEFAULT_THREADS;
+        int durationSeconds = DEFAULT_DURATION_SECONDS;
+        int warmupSeconds = DEFAULT_WARMUP_SECONDS;
+        String mix = CommandMix.DEFAULT_MIX;
+        int size = DEFAULT_SERVER_SIZE;
+        long seed = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--file":
+                filePath = args[i + 1];
+                break;
+            case "--url":
+                url = args[i + 1];
+                break;
+            case "--threads":
+                threads = Integer.parseInt(args[i + 1]);
+                break;
+            case "--duration":
+                durationSeconds = Integer.parseInt(args[i + 1]);
+                break;
+            case "--warmup":
+                warmupSeconds = Integer.parseInt(args[i + 1]);
+                break;
+            case "--mix":
+                mix = args[i + 1];
+                break;
+            case "--size":
+                size = Integer.parseInt(args[i + 1]);
+                break;
+            case "--seed":
+                seed = Long.parseLong(args[i + 1]);
+                break;
+            default:
+                System.err.println(USAGE);
+                return;
+            }
+        }
+        if ((filePath == null) == (url == null) || args.length % 2 != 0) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        Target target;
+        IntSupplier noOfTasks;
+        if (filePath != null) {
+            Duke duke = new Duke(filePath);
+            duke.setSavesDeferred(true);
+            target = inProcess(duke);
+            noOfTasks = duke::getNoOfTasks;
+        } else {
+            target = overHttp(url);
+            int fixedSize = size;
+            noOfTasks = () -> fixedSize;
+        }
+
+        CommandMix commandMix = new CommandMix(CommandMix.parseMix(mix), WorkloadGenerator.DEFAULT_VOCABULARY);
+        LoadDriver driver = new LoadDriver(target, commandMix, noOfTasks, seed);
+        System.out.println("Warming up for " + warmupSeconds + "s, then measuring for " + durationSeconds
+                + "s on " + threads + " threads");
+        Report report = driver.run(threads, TimeUnit.SECONDS.toNanos(warmupSeconds),
+                TimeUnit.SECONDS.toNanos(durationSeconds));
+        report.print();
+    }
+}
@@ -0,0 +1,276 @@
+package duke.load;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import duke.exception.InvalidInputException;
+import duke.task.DeadlineTask;
+import duke.task.DukeTask;
+import duke.task.EventTask;
+import duke.task.FixedDurationTask;
+import duke.task.TaskType;
+import duke.task.TodoTask;
+
+/**
+ * A WorkloadGenerator writes task files of any size for load tests, in the same format as the Storage.
+ * The mix of task types, the share of done tasks, how far the dates spread around today and the words used in
+ * the descriptions can all be chosen. The same seed always gives the same file.
+ * Tasks are written one at a time as they are generated, so files of millions of tasks take little memory.
+ */
+public class WorkloadGenerator {
+    static final String DEFAULT_MIX = "todo:40,deadline:30,event:20,fixed:10";
+    static final List<String> DEFAULT_VOCABULARY = List.of(
+            "read", "report", "meeting", "groceries", "review", "lecture", "gym", "book", "project", "call",
+            "email", "standup", "tutorial", "quiz", "laundry", "dinner", "budget", "draft", "slides", "demo");
+
+    private static final String USAGE = "Usage: WorkloadGenerator --tasks COUNT [--out FILE] "
+            + "[--mix todo:40,deadline:30,event:20,fixed:10] [--done RATIO] [--spread DAYS] "
+            + "[--words COUNT] [--vocabulary FILE] [--seed SEED]";
+    private static final String DEFAULT_FILE_PATH = "data/generated-tasks.txt";
+    private static final int DEFAULT_SPREAD_DAYS = 30;
+    private static final double DEFAULT_DONE_RATIO = 0.3;
+    private static final int DEFAULT_WORDS_PER_TASK = 3;
+    private static final int MAX_EVENT_HOURS = 4;
+    private static final int MAX_FIXED_HALF_HOURS = 8;
+
+    private final EnumMap<TaskType, Integer> mix;
+    private final int totalWeight;
+    private final double doneRatio;
+    private final int spreadDays;
+    private final int wordsPerTask;
+    private final List<String> vocabulary;
+    private final LocalDateTime origin;
+    private final Random random;
+
+    /**
+     * Creates a WorkloadGenerator.
+     *
+     * @param mix The relative weight of each task type, such as 40 todos for every 30 deadlines
+     * @param doneRatio The share of tasks that are marked as done, from 0 to 1
+     * @param spreadDays The number of days before and after the origin that the dates of tasks fall within
+     * @param wordsPerTask The number of words in the description of each task
+     * @param vocabulary The words that descriptions are made of
+     * @param origin The date and time that the dates of tasks spread around
+     * @param seed The seed of the random choices
+     */
+    public WorkloadGenerator(Map<TaskType, Integer> mix, double doneRatio, int spreadDays, int wordsPerTask,
+            List<String> vocabulary, LocalDateTime origin, long seed) {
+        assert !vocabulary.isEmpty() : "The vocabulary should not be empty";
+        this.mix = new EnumMap<>(mix);
+        this.totalWeight = this.mix.values().stream().mapToInt(Integer::intValue).sum();
+        assert this.totalWeight > 0 : "At least one task type should have a positive weight";
+        this.doneRatio = doneRatio;
+        this.spreadDays = spreadDays;
+        this.wordsPerTask = wordsPerTask;
+        this.vocabulary = List.copyOf(vocabulary);
+        this.origin = origin;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates the next task.
+     *
+     * @param index The number of the task, which is added to its description to keep descriptions apart
+     * @return The generated task
+     */
+    public DukeTask nextTask(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < this.wordsPerTask; i++) {
+            name.append(this.vocabulary.get(this.random.nextInt(this.vocabulary.size()))).append(' ');
+        }
+        name.append(index);
+
+        DukeTask task;
+        switch (nextType()) {
+        case DEADLINE:
+            task = new DeadlineTask(name.toString(), nextDateTime());
+            break;
+        case EVENT:
+            LocalDateTime start = nextDateTime();
+            task = createEvent(name.toString(), start, start.plusHours(1 + this.random.nextInt(MAX_EVENT_HOURS)));
+            break;
+        case FIXED_DURATION:
+            task = new FixedDurationTask(name.toString(),
+                    Duration.ofMinutes(30L * (1 + this.random.nextInt(MAX_FIXED_HALF_HOURS))));
+            break;
+        default:
+            task = new TodoTask(name.toString());
+        }
+        if (this.random.nextDouble() < this.doneRatio) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Writes the given number of generated tasks to the Writer, one storage line per task.
+     *
+     * @param out The Writer to write to
+     * @param noOfTasks The number of tasks to generate
+     * @throws IOException if the tasks cannot be written
+     */
+    public void write(Writer out, int noOfTasks) throws IOException {
+        for (int i = 1; i <= noOfTasks; i++) {
+            out.write(nextTask(i).storageString());
+            out.write(System.lineSeparator());
+        }
+    }
+
+    private TaskType nextType() {
+        int pick = this.random.nextInt(this.totalWeight);
+        for (Map.Entry<TaskType, Integer> entry : this.mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("The pick is always below the total weight");
+    }
+
+    /**
+     * Picks a date within the spread around the origin, at a whole or half hour.
+     *
+     * @return The date and time
+     */
+    private LocalDateTime nextDateTime() {
+        return this.origin.plusDays(this.random.nextInt(2 * this.spreadDays + 1) - this.spreadDays)
+                .plusMinutes(30L * this.random.nextInt(24));
+    }
+
+    private static DukeTask createEvent(String name, LocalDateTime start, LocalDateTime end) {
+        try {
+            return new EventTask(name, start, end);
+        } catch (InvalidInputException e) {
+            // The end is always after the start
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Parses a mix such as "todo:40,deadline:30,event:20,fixed:10". Task types that are left out get no tasks.
+     *
+     * @param text The mix
+     * @return The weight of each task type
+     * @throws IllegalArgumentException if the mix names an unknown task type or has an invalid weight
+     */
+    static EnumMap<TaskType, Integer> parseMix(String text) {
+        EnumMap<TaskType, Integer> mix = new EnumMap<>(TaskType.class);
+        for (String part : text.split(",")) {
+            String[] typeAndWeight = part.trim().split(":");
+            if (typeAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid mix: " + text);
+            }
+            int weight = Integer.parseInt(typeAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Invalid weight: " + part);
+            }
+            mix.put(parseTaskType(typeAndWeight[0].trim()), weight);
+        }
+        return mix;
+    }
+
+    private static TaskType parseTaskType(String name) {
+        switch (name.toLowerCase()) {
+        case "todo":
+            return TaskType.TODO;
+        case "deadline":
+            return TaskType.DEADLINE;
+        case "event":
+            return TaskType.EVENT;
+        case "fixed":
+            return TaskType.FIXED_DURATION;
+        default:
+            throw new IllegalArgumentException("Unknown task type: " + name);
+        }
+    }
+
+    /**
+     * Writes a generated task file.
+     *
+     * @param args --tasks followed by the number of tasks, and optionally --out, --mix, --done, --spread,
+     *             --words, --vocabulary and --seed
+     * @throws IOException if the task file or the vocabulary cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int noOfTasks = -1;
+        String filePath = DEFAULT_FILE_PATH;
+        String mix = DEFAULT_MIX;
+        double doneRatio = DEFAULT_DONE_RATIO;
+        int spreadDays = DEFAULT_SPREAD_DAYS;
+        int wordsPerTask = DEFAULT_WORDS_PER_TASK;
+        List<String> vocabulary = DEFAULT_VOCABULARY;
+        long seed = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--tasks":
+                noOfTasks = Integer.parseInt(args[i + 1]);
+                break;
+            case "--out":
+                filePath = args[i + 1];
+                break;
+            case "--mix":
+                mix = args[i + 1];
+                break;
+            case "--done":
+                doneRatio = Double.parseDouble(args[i + 1]);
+                break;
+            case "--spread":
+                spreadDays = Integer.parseInt(args[i + 1]);
+                break;
+            case "--words":
+                wordsPerTask = Integer.parseInt(args[i + 1]);
+                break;
+            case "--vocabulary":
+                vocabulary = readVocabulary(Paths.get(args[i + 1]));
+                break;
+            case "--seed":
+                seed = Long.parseLong(args[i + 1]);
+                break;
+            default:
+                System.err.println(USAGE);
+                return;
+            }
+        }
+        if (noOfTasks < 0 || args.length % 2 != 0) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator(parseMix(mix), doneRatio, spreadDays, wordsPerTask,
+                vocabulary, LocalDate.now().atTime(8, 0), seed);
+        Path path = Paths.get(filePath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            generator.write(out, noOfTasks);
+        }
+        System.out.println("Wrote " + noOfTasks + " tasks to " + path);
+    }
+
+    private static List<String> readVocabulary(Path path) throws IOException {
+        List<String> words = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                words.add(line.strip());
+            }
+        }
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("The vocabulary is empty: " + path);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,372 @@
+package duke.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import duke.Duke;
+import duke.exception.InvalidInputException;
+import duke.exception.StorageFileException;
+import duke.ui.ResponseSink;
+import duke.workspace.WorkspaceManager;
+
+/**
+ * A headless server that exposes {@link Duke#getResponse(String)} over HTTP on the local machine.
+ * Requests are handled by a fixed pool of worker threads in front of a bounded queue. When the queue is full,
+ * new requests are turned away with 503 (Service Unavailable) instead of piling up.
+ * Responses to commands are streamed to the client with chunked encoding. The response to a query is streamed as
+ * it is produced, while the response to a command that changes the task list is sent once the change is complete,
+ * so that a slow client never holds the task list locked.
+ *
+ * <ul>
+ *     <li>{@code POST /command} takes the command as the request body and returns Duke's response.
+ *     With {@code ?workspace=NAME}, the command runs against the task list of that workspace instead.</li>
+ *     <li>{@code GET /health} returns "OK" when the server is up.</li>
+ * </ul>
+ */
+public class DukeServer {
+    private static final String USAGE = "Usage: DukeServer [--port PORT] [--threads THREADS] "
+            + "[--queue CAPACITY] [--file FILE] [--workspaces FOLDER] [--budget MEGABYTES]";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private static final String DEFAULT_FILE_PATH = "data/tasks.txt";
+    private static final String DEFAULT_WORKSPACE_FOLDER = "data/workspaces";
+    private static final long DEFAULT_MEMORY_BUDGET_MEGABYTES = 64;
+    private static final String WORKSPACE_PARAMETER = "workspace=";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final String BUSY_MESSAGE = "Mr. Bear is busy, please try again later.";
+    private static final String INTERNAL_ERROR_MESSAGE = "Mr. Bear ran into a problem and could not answer.";
+    private static final String METHOD_NOT_ALLOWED_MESSAGE = "Only %s is supported.";
+    private static final int RESPONSE_BUFFER_SIZE = 1 << 13;
+
+    private final Duke duke;
+    private final WorkspaceManager workspaces;
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a server that serves the given Duke on the given port of the loopback address.
+     *
+     * @param duke The Duke that handles the commands
+     * @param workspaces The workspaces that handle the commands sent to a named workspace
+     * @param port The port to listen on, or 0 to pick any free port
+     * @param threads The number of worker threads
+     * @param queueCapacity The number of requests that may wait for a worker before new ones are rejected
+     * @throws IOException if the server cannot be bound to the port
+     */
+    public DukeServer(Duke duke, WorkspaceManager workspaces, int port, int threads, int queueCapacity)
+            throws IOException {
+        this.duke = duke;
+        this.workspaces = workspaces;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), DukeServer::rejectBusy);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // Accept requests on the server's own thread and hand them straight over to the workers
+        this.server.createContext("/command", exchange -> dispatch(exchange, this::handleCommand));
+        this.server.createContext("/health", exchange -> dispatch(exchange, this::handleHealth));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        this.server.start();
+    }
+
+    /**
+     * Stops accepting requests, waits for the requests in progress to finish, writes the loaded workspaces
+     * back to their storage files and releases the port.
+     */
+    public void stop() {
+        this.server.stop(0);
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+            this.workspaces.flushAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (StorageFileException e) {
+            System.err.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the port that the server is listening on.
+     *
+     * @return The port that the server is listening on
+     */
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * Hands a request over to the worker threads. If all of them are busy and the queue is full,
+     * the request is turned away by {@link #rejectBusy(Runnable, ThreadPoolExecutor)} instead.
+     *
+     * @param exchange The request
+     * @param handler The handler that handles the request on a worker thread
+     */
+    private void dispatch(HttpExchange exchange, HttpHandler handler) {
+        this.executor.execute(new Request(exchange, handler));
+    }
+
+    /**
+     * Answers a request that the worker threads have no room for with 503, on the server's own thread.
+     *
+     * @param task The Request that was rejected
+     * @param executor The executor of the worker threads
+     */
+    private static void rejectBusy(Runnable task, ThreadPoolExecutor executor) {
+        HttpExchange exchange = ((Request) task).exchange;
+        try {
+            send(exchange, 503, BUSY_MESSAGE);
+        } catch (IOException e) {
+            // The client has gone away, so there is no one to tell
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * A request waiting for a worker thread, together with the handler for it.
+     */
+    private static class Request implements Runnable {
+        private final HttpExchange exchange;
+        private final HttpHandler handler;
+
+        private Request(HttpExchange exchange, HttpHandler handler) {
+            this.exchange = exchange;
+            this.handler = handler;
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.handler.handle(this.exchange);
+            } catch (IOException e) {
+                // The client has gone away, so the rest of the response has nowhere to go
+            } catch (RuntimeException e) {
+                fail(e);
+            } finally {
+                this.exchange.close();
+            }
+        }
+
+        /**
+         * Reports an unexpected failure, and answers with 500 if none of the response has been sent yet.
+         * Otherwise, the client can only see the response end early.
+         *
+         * @param e The failure
+         */
+        private void fail(RuntimeException e) {
+            e.printStackTrace();
+            if (this.exchange.getResponseCode() != -1) {
+                return;
+            }
+            try {
+                send(this.exchange, 500, INTERNAL_ERROR_MESSAGE);
+            } catch (IOException sendError) {
+                // The client has gone away, so there is no one to tell
+            }
+        }
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, String.format(METHOD_NOT_ALLOWED_MESSAGE, "POST"));
+            return;
+        }
+        String input = readBody(exchange);
+        String workspaceId = getWorkspaceId(exchange);
+        stream(exchange, workspaceId, input);
+    }
+
+    /**
+     * Streams the response to the given input to the client as it is produced. If the task list of the workspace
+     * cannot be loaded, the client gets 500 with the reason instead.
+     *
+     * @param exchange The request
+     * @param workspaceId The name of the workspace, or null to use the default task list
+     * @param input The user input
+     * @throws IOException if the response cannot be written to the client
+     */
+    private void stream(HttpExchange exchange, String workspaceId, String input) throws IOException {
+        ChunkedSink sink = new ChunkedSink(exchange);
+        try {
+            respond(workspaceId, input, sink);
+            sink.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (StorageFileException e) {
+            // The workspace is loaded before any of the response is produced, so no headers have been sent yet
+            send(exchange, 500, e.getMessage());
+        }
+    }
+
+    private void respond(String workspaceId, String input, ResponseSink sink) throws StorageFileException {
+        if (workspaceId == null) {
+            this.duke.respond(input, sink);
+            return;
+        }
+        try {
+            this.workspaces.respond(workspaceId, input, sink);
+        } catch (InvalidInputException e) {
+            sink.append(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the name of the workspace from the "workspace" query parameter of the request.
+     *
+     * @param exchange The request
+     * @return The name of the workspace, or null if the request does not name one
+     */
+    private static String getWorkspaceId(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(WORKSPACE_PARAMETER)) {
+                return URLDecoder.decode(parameter.substring(WORKSPACE_PARAMETER.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        send(exchange, 200, "OK");
+    }
+
+    /**
+     * A sink that streams the response to the client with chunked encoding. The status and the headers are only sent
+     * with the first piece of the response, so that a request that fails before then can still get an error status.
+     */
+    private static class ChunkedSink implements ResponseSink {
+        private final HttpExchange exchange;
+        private Writer out;
+
+        private ChunkedSink(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void append(CharSequence text) {
+            try {
+                start().append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void append(char c) {
+            try {
+                start().append(c);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Sends the rest of the response, and the headers if the response is empty.
+         *
+         * @throws IOException if the response cannot be written to the client
+         */
+        private void finish() throws IOException {
+            start().close();
+        }
+
+        private Writer start() throws IOException {
+            if (this.out == null) {
+                this.exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+                // A length of 0 makes the response chunked, so it can be sent before its length is known
+                this.exchange.sendResponseHeaders(200, 0);
+                this.out = new BufferedWriter(new OutputStreamWriter(this.exchange.getResponseBody(),
+                        StandardCharsets.UTF_8), RESPONSE_BUFFER_SIZE);
+            }
+            return this.out;
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Starts a server for the task file in the working directory and keeps it running until the process is stopped.
+     *
+     * @param args Optional flags: --port, --threads, --queue, --file, --workspaces and --budget
+     * @throws IOException if the server cannot be started
+     */
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        String filePath = DEFAULT_FILE_PATH;
+        String workspaceFolder = DEFAULT_WORKSPACE_FOLDER;
+        long memoryBudgetMegabytes = DEFAULT_MEMORY_BUDGET_MEGABYTES;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+            case "--port":
+                port = Integer.parseInt(args[i + 1]);
+                break;
+            case "--threads":
+                threads = Integer.parseInt(args[i + 1]);
+                break;
+            case "--queue":
+                queueCapacity = Integer.parseInt(args[i + 1]);
+                break;
+            case "--file":
+                filePath = args[i + 1];
+                break;
+            case "--workspaces":
+                workspaceFolder = args[i + 1];
+                break;
+            case "--budget":
+                memoryBudgetMegabytes = Long.parseLong(args[i + 1]);
+                break;
+            default:
+                System.err.println(USAGE);
+                return;
+            }
+        }
+        if (args.length % 2 != 0) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        WorkspaceManager workspaces = new WorkspaceManager(workspaceFolder, memoryBudgetMegabytes * 1024 * 1024);
+        DukeServer server = new DukeServer(new Duke(filePath), workspaces, port, threads, queueCapacity);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.out.println("Mr. Bear is listening on http://localhost:" + server.getPort() + "/command");
+    }
+}
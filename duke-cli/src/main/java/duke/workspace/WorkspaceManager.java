@@ -0,0 +1,277 @@
+package duke.workspace;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import duke.Duke;
+import duke.exception.InvalidInputException;
+import duke.exception.StorageFileException;
+import duke.parser.ErrorMessage;
+import duke.ui.ResponseSink;
+
+/**
+ * A WorkspaceManager serves many independent task lists, one per workspace, from a single process.
+ * Each workspace has its own storage file in the workspace folder and is only loaded when it is first used.
+ * To keep memory bounded, the least recently used workspaces are written back to their storage files and
+ * unloaded whenever the estimated size of the loaded workspaces exceeds the memory budget.
+ * Only workspaces whose task list changed since it was loaded or last written are written back, and the writing
+ * happens outside the lock of the WorkspaceManager, so that it does not hold up requests to other workspaces.
+ */
+public class WorkspaceManager {
+    private static final Pattern WORKSPACE_ID_CHECKER = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String STORAGE_FILE_EXTENSION = ".txt";
+    // Rough estimate of the memory held by a loaded workspace and by each of its tasks
+    private static final long WORKSPACE_OVERHEAD_BYTES = 2048;
+    private static final long TASK_BYTES = 256;
+
+    private final String folder;
+    private final long memoryBudget;
+    // Keeps the workspaces in order of access, from the least recently used to the most recently used
+    private final LinkedHashMap<String, Workspace> workspaces = new LinkedHashMap<>(16, 0.75f, true);
+    // Evicted workspaces that are still being written back, whose storage files may be out of date until then
+    private final Map<String, Workspace> evicting = new HashMap<>();
+    private long estimatedBytes = 0;
+
+    /**
+     * A loaded workspace together with its estimated size and the number of requests that are using it.
+     */
+    private static class Workspace {
+        private final String id;
+        private final String filePath;
+        private volatile Duke duke;
+        private long estimatedBytes = WORKSPACE_OVERHEAD_BYTES;
+        private int activeRequests = 0;
+        private int pendingWriteBacks = 0;
+        // The version of the task list that is in the storage file, guarded by the Workspace
+        private long savedVersion;
+
+        private Workspace(String id, String filePath) {
+            this.id = id;
+            this.filePath = filePath;
+        }
+
+        /**
+         * Loads the task list of the workspace if it has not been loaded yet.
+         *
+         * @return The Duke that serves the workspace
+         * @throws StorageFileException if the storage file of the workspace cannot be read
+         */
+        private synchronized Duke load() throws StorageFileException {
+            if (this.duke == null) {
+                try {
+                    this.duke = new Duke(this.filePath);
+                } catch (RuntimeException e) {
+                    // Duke wraps the failure to read the storage file
+                    if (e.getCause() instanceof StorageFileException) {
+                        throw (StorageFileException) e.getCause();
+                    }
+                    throw e;
+                }
+                this.savedVersion = this.duke.getVersion();
+            }
+            return this.duke;
+        }
+
+        /**
+         * Writes the task list back to the storage file if it changed since it was loaded or last written.
+         * A task list that was only read is never written, so a storage file that could not be loaded is not
+         * replaced by an empty task list.
+         *
+         * @throws StorageFileException if the storage file cannot be written
+         */
+        private synchronized void flushIfChanged() throws StorageFileException {
+            if (this.duke == null) {
+                return;
+            }
+            long version = this.duke.getVersion();
+            if (version != this.savedVersion) {
+                this.duke.flush();
+                this.savedVersion = version;
+            }
+        }
+    }
+
+    /**
+     * Creates a WorkspaceManager that keeps the storage files in the given folder.
+     *
+     * @param folder The folder, relative to the working directory, that holds the storage files
+     * @param memoryBudget The estimated number of bytes that the loaded workspaces may take up
+     */
+    public WorkspaceManager(String folder, long memoryBudget) {
+        this.folder = folder;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Runs the given input against the task list of the given workspace and returns Duke's response.
+     * The workspace is loaded first if it is not loaded yet.
+     *
+     * @param workspaceId The name of the workspace
+     * @param input The user input
+     * @return The response from Duke
+     * @throws InvalidInputException if the workspace name is invalid
+     * @throws StorageFileException if the storage file of the workspace cannot be read
+     */
+    public String getResponse(String workspaceId, String input) throws InvalidInputException, StorageFileException {
+        Workspace workspace = acquire(workspaceId);
+        try {
+            return workspace.load().getResponse(input);
+        } finally {
+            release(workspace);
+        }
+    }
+
+    /**
+     * Runs the given input against the task list of the given workspace and streams Duke's response
+     * into the given sink. The workspace is loaded first if it is not loaded yet, so if it cannot be loaded,
+     * nothing has been put into the sink.
+     *
+     * @param workspaceId The name of the workspace
+     * @param input The user input
+     * @param sink The sink that receives the response
+     * @throws InvalidInputException if the workspace name is invalid
+     * @throws StorageFileException if the storage file of the workspace cannot be read
+     */
+    public void respond(String workspaceId, String input, ResponseSink sink)
+            throws InvalidInputException, StorageFileException {
+        Workspace workspace = acquire(workspaceId);
+        try {
+            workspace.load().respond(input, sink);
+        } finally {
+            release(workspace);
+        }
+    }
+
+    /**
+     * Returns the number of workspaces that are currently loaded.
+     *
+     * @return The number of loaded workspaces
+     */
+    public synchronized int getNoOfLoadedWorkspaces() {
+        return this.workspaces.size();
+    }
+
+    /**
+     * Writes all loaded workspaces back to their storage files.
+     *
+     * @throws StorageFileException if any storage file cannot be written
+     */
+    public void flushAll() throws StorageFileException {
+        List<Workspace> loaded;
+        synchronized (this) {
+            loaded = new ArrayList<>(this.workspaces.values());
+        }
+        for (Workspace workspace : loaded) {
+            workspace.flushIfChanged();
+        }
+    }
+
+    /**
+     * Finds or creates the workspace with the given name and marks it as in use so that it is not evicted.
+     *
+     * @param workspaceId The name of the workspace
+     * @return The workspace
+     * @throws InvalidInputException if the workspace name is invalid
+     */
+    private synchronized Workspace acquire(String workspaceId) throws InvalidInputException {
+        if (!WORKSPACE_ID_CHECKER.matcher(workspaceId).matches()) {
+            throw new InvalidInputException(ErrorMessage.INVALID_WORKSPACE_ERROR);
+        }
+
+        Workspace workspace = this.workspaces.get(workspaceId);
+        if (workspace == null) {
+            // A workspace that is still being written back is taken back as it is, as its file may be out of date
+            workspace = this.evicting.get(workspaceId);
+        }
+        if (workspace == null) {
+            String filePath = Paths.get(this.folder, workspaceId + STORAGE_FILE_EXTENSION).toString();
+            workspace = new Workspace(workspaceId, filePath);
+        }
+        if (!this.workspaces.containsKey(workspaceId)) {
+            this.workspaces.put(workspaceId, workspace);
+            this.estimatedBytes += workspace.estimatedBytes;
+        }
+        workspace.activeRequests++;
+        return workspace;
+    }
+
+    /**
+     * Marks the workspace as no longer used by the current request, updates its estimated size
+     * and evicts workspaces if the memory budget is exceeded. The evicted workspaces are written back
+     * after the lock is released.
+     *
+     * @param workspace The workspace that was used
+     */
+    private void release(Workspace workspace) {
+        List<Workspace> evicted;
+        synchronized (this) {
+            workspace.activeRequests--;
+            if (workspace.duke != null) {
+                long newEstimate = WORKSPACE_OVERHEAD_BYTES + TASK_BYTES * workspace.duke.getNoOfTasks();
+                this.estimatedBytes += newEstimate - workspace.estimatedBytes;
+                workspace.estimatedBytes = newEstimate;
+            }
+            evicted = evictIfOverBudget();
+        }
+        for (Workspace evictedWorkspace : evicted) {
+            writeBack(evictedWorkspace);
+        }
+    }
+
+    /**
+     * Unloads the least recently used workspaces that are not in use until the memory budget is met.
+     * The unloaded workspaces are kept aside until they have been written back.
+     *
+     * @return The workspaces that were unloaded
+     */
+    private List<Workspace> evictIfOverBudget() {
+        List<Workspace> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Workspace>> iterator = this.workspaces.entrySet().iterator();
+        while (this.estimatedBytes > this.memoryBudget && iterator.hasNext()) {
+            Workspace workspace = iterator.next().getValue();
+            if (workspace.activeRequests > 0) {
+                // Skip workspaces that are being used by other requests
+                continue;
+            }
+            iterator.remove();
+            this.estimatedBytes -= workspace.estimatedBytes;
+            workspace.pendingWriteBacks++;
+            this.evicting.put(workspace.id, workspace);
+            evicted.add(workspace);
+        }
+        return evicted;
+    }
+
+    /**
+     * Writes an evicted workspace back to its storage file if it changed. If it cannot be written,
+     * the workspace is loaded again so that its changes are not lost.
+     *
+     * @param workspace The evicted workspace
+     */
+    private void writeBack(Workspace workspace) {
+        boolean isSaved;
+        try {
+            workspace.flushIfChanged();
+            isSaved = true;
+        } catch (StorageFileException e) {
+            isSaved = false;
+        }
+
+        synchronized (this) {
+            workspace.pendingWriteBacks--;
+            if (workspace.pendingWriteBacks == 0) {
+                this.evicting.remove(workspace.id, workspace);
+            }
+            if (!isSaved && !this.workspaces.containsKey(workspace.id)) {
+                this.workspaces.put(workspace.id, workspace);
+                this.estimatedBytes += workspace.estimatedBytes;
+            }
+        }
+    }
+}
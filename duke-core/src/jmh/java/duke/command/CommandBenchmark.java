@@ -0,0 +1,122 @@
+package duke.command;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.exception.DukeException;
+import duke.storage.Storage;
+import duke.task.TaskFixtures;
+import duke.task.TaskList;
+import duke.ui.ResponseSink;
+import duke.ui.Ui;
+
+/**
+ * Measures the commands that go through the whole TaskList, and the rendering of the TaskList itself.
+ * The commands run directly on the TaskList, without the Parser or the response cache in front of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandBenchmark {
+    @Param({"1000", "100000"})
+    private int noOfTasks;
+
+    private TaskList tasks;
+    private Storage storage;
+
+    /**
+     * Builds the TaskList. Saves are deferred and never flushed, so sort does not write the file.
+     */
+    @Setup
+    public void setUp() {
+        this.tasks = TaskFixtures.create(this.noOfTasks);
+        this.storage = new Storage(Paths.get("build", "jmh-commands", "tasks.txt").toString());
+        this.storage.setDeferred(true);
+    }
+
+    /**
+     * Finds the tasks whose description contains a common word.
+     *
+     * @param blackhole Consumes the response
+     * @throws DukeException never, as the command is valid
+     */
+    @Benchmark
+    public void find(Blackhole blackhole) throws DukeException {
+        new FindCommand("report").execute(this.tasks, createUi(blackhole), this.storage);
+    }
+
+    /**
+     * Lists the tasks that fall on today.
+     *
+     * @param blackhole Consumes the response
+     * @throws DukeException never, as the command is valid
+     */
+    @Benchmark
+    public void viewSchedule(Blackhole blackhole) throws DukeException {
+        new ViewScheduleCommand(LocalDate.now()).execute(this.tasks, createUi(blackhole), this.storage);
+    }
+
+    /**
+     * Looks for the nearest free day in the next month.
+     *
+     * @param blackhole Consumes the response
+     * @throws DukeException never, as the command is valid
+     */
+    @Benchmark
+    public void findFreeTime(Blackhole blackhole) throws DukeException {
+        new FindFreeTimeCommand().execute(this.tasks, createUi(blackhole), this.storage);
+    }
+
+    /**
+     * Sorts the tasks by category. After the first call the list is already sorted, which does not
+     * change the work done, as sort always moves every task.
+     *
+     * @param blackhole Consumes the response
+     * @throws DukeException never, as saves are deferred
+     */
+    @Benchmark
+    public void sort(Blackhole blackhole) throws DukeException {
+        new SortCommand().execute(this.tasks, createUi(blackhole), this.storage);
+    }
+
+    /**
+     * Renders the whole TaskList as one String.
+     *
+     * @return The rendered TaskList
+     */
+    @Benchmark
+    public String taskListToString() {
+        return this.tasks.toString();
+    }
+
+    private static Ui createUi(Blackhole blackhole) {
+        return new Ui(new ResponseSink() {
+            @Override
+            public void append(CharSequence text) {
+                blackhole.consume(text);
+            }
+
+            @Override
+            public void append(char c) {
+                blackhole.consume(c);
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package duke.parser;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.exception.DukeException;
+import duke.parser.Parser.Instruction;
+
+/**
+ * Measures how long the Parser takes to parse a typical input of each Instruction on its own.
+ * Inputs of read-only commands are answered from the parsed command cache after the first call,
+ * so their numbers show the cost of a cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstructionBenchmark {
+    private static final Map<Instruction, String> SAMPLE_INPUTS = new EnumMap<>(Instruction.class);
+
+    static {
+        SAMPLE_INPUTS.put(Instruction.BYE, "bye");
+        SAMPLE_INPUTS.put(Instruction.LIST, "list page 2 size 10 --undone");
+        SAMPLE_INPUTS.put(Instruction.REMINDER, "reminder");
+        SAMPLE_INPUTS.put(Instruction.HELP, "help date");
+        SAMPLE_INPUTS.put(Instruction.MASSDELETE, "massdelete");
+        SAMPLE_INPUTS.put(Instruction.MARK, "mark 3");
+        SAMPLE_INPUTS.put(Instruction.UNMARK, "unmark 3");
+        SAMPLE_INPUTS.put(Instruction.DELETE, "delete 5");
+        SAMPLE_INPUTS.put(Instruction.TODO, "todo buy groceries");
+        SAMPLE_INPUTS.put(Instruction.DEADLINE, "deadline submit report /by 2023-01-16 1800");
+        SAMPLE_INPUTS.put(Instruction.EVENT, "event team meeting /from 2023-01-16 1400 /to 2023-01-16 1500");
+        SAMPLE_INPUTS.put(Instruction.FIND, "find report review");
+        SAMPLE_INPUTS.put(Instruction.VIEW, "view 2023-01-16");
+        SAMPLE_INPUTS.put(Instruction.UPDATE, "update 2 buy more groceries");
+        SAMPLE_INPUTS.put(Instruction.FREE, "free");
+        SAMPLE_INPUTS.put(Instruction.FIXED, "fixed practice piano /within PT1H30M");
+        SAMPLE_INPUTS.put(Instruction.SORT, "sort");
+        SAMPLE_INPUTS.put(Instruction.STATS, "stats");
+    }
+
+    @Param({
+        "BYE", "LIST", "REMINDER", "HELP", "MASSDELETE", "MARK", "UNMARK", "DELETE", "TODO",
+        "DEADLINE", "EVENT", "FIND", "VIEW", "UPDATE", "FREE", "FIXED", "SORT", "STATS"
+    })
+    private String instruction;
+
+    private String input;
+
+    /**
+     * Picks the sample input of the Instruction, and checks that every Instruction has one,
+     * so that a new Instruction is not left out of the benchmark unnoticed.
+     */
+    @Setup
+    public void setUp() {
+        if (SAMPLE_INPUTS.size() != Instruction.values().length) {
+            throw new IllegalStateException("Every Instruction needs a sample input");
+        }
+        this.input = SAMPLE_INPUTS.get(Instruction.valueOf(this.instruction));
+    }
+
+    /**
+     * Parses the sample input.
+     *
+     * @return The parsed command
+     * @throws DukeException never, as every sample input is valid
+     */
+    @Benchmark
+    public Object parse() throws DukeException {
+        return Parser.parse(this.input);
+    }
+}
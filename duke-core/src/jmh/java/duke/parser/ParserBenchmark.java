@@ -0,0 +1,77 @@
+package duke.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.exception.DukeException;
+
+/**
+ * Measures how long the Parser takes to turn user input into Commands, on a mix of inputs that resembles
+ * a typical session: mostly queries, some new tasks and status changes, and the odd typo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    private static final String[] COMMAND_MIX = {
+        "list",
+        "list",
+        "reminder",
+        "find standup",
+        "find report review",
+        "view 2023-01-16",
+        "todo buy groceries",
+        "deadline submit report /by 2023-01-16 1800",
+        "event team meeting /from 2023-01-16 1400 /to 2023-01-16 1500",
+        "fixed practice piano /within PT1H30M",
+        "mark 3",
+        "unmark 3",
+        "update 2 buy more groceries",
+        "delete 5",
+        "LIST",
+        "help",
+        "free",
+        "sort",
+        "lsit",
+    };
+
+    /**
+     * Parses every input of the mix once. Invalid inputs are part of the mix, so their exceptions are counted too.
+     *
+     * @param blackhole Consumes the parsed commands so that the parsing is not optimised away
+     */
+    @Benchmark
+    public void parseCommandMix(Blackhole blackhole) {
+        for (String input : COMMAND_MIX) {
+            try {
+                blackhole.consume(Parser.parse(input));
+            } catch (DukeException e) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    /**
+     * Parses the most common input on its own.
+     *
+     * @return The parsed command
+     * @throws DukeException never, as the input is valid
+     */
+    @Benchmark
+    public Object parseList() throws DukeException {
+        return Parser.parse("list");
+    }
+}
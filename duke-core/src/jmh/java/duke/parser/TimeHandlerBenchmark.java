@@ -0,0 +1,71 @@
+package duke.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.exception.InvalidInputException;
+
+/**
+ * Measures how long the TimeHandler takes to parse a date and time in each of the acceptable formats,
+ * and to reject invalid ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeHandlerBenchmark {
+    /**
+     * One input per acceptable format, in the order the formats are listed in, followed by invalid inputs:
+     * one with an unknown layout, one with a known layout but an invalid month, and one with trailing text.
+     */
+    @Param({
+        "Jan 16 2023 1805", "Jan 16 2023 18:05", "2023-01-16T18:05", "16/01/2023 1805",
+        "16/01/2023 18:05", "2023/01/16 1805", "2023/01/16 18:05", "2023/01/16T1805",
+        "2023/01/16T18:05", "2023-01-16 1805", "2023-01-16 18:05", "16 Jan 2023 1805",
+        "16 Jan 2023 18:05", "Jan 16, 2023 1805", "Jan 16, 2023 18:05",
+        "tomorrow evening", "2023-13-16 18:05", "16/01/2023 1805 sharp"
+    })
+    private String input;
+
+    /**
+     * Parses the input, alternating with another format so that the per-thread memo of the last format is
+     * not always a hit.
+     *
+     * @return The parsed date and time, or the exception if the input is invalid
+     */
+    @Benchmark
+    public Object parseToLocalDateTime() {
+        try {
+            TimeHandler.parseToLocalDateTime("Jan 16 2023 18:05");
+            return TimeHandler.parseToLocalDateTime(this.input);
+        } catch (InvalidInputException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Parses the input repeatedly, as when a script uses the same format for every date.
+     *
+     * @return The parsed date and time, or the exception if the input is invalid
+     */
+    @Benchmark
+    public Object parseToLocalDateTimeSameFormat() {
+        try {
+            return TimeHandler.parseToLocalDateTime(this.input);
+        } catch (InvalidInputException e) {
+            return e;
+        }
+    }
+}
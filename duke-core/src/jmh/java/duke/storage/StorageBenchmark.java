@@ -0,0 +1,72 @@
+package duke.storage;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.exception.DukeException;
+import duke.task.TaskFixtures;
+import duke.task.TaskList;
+
+/**
+ * Measures how long the Storage takes to write a TaskList to its file and to load it back,
+ * from a thousand to a million tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int noOfTasks;
+
+    private TaskList tasks;
+    private Storage storage;
+
+    /**
+     * Builds the TaskList and writes it once, so that there is a file to load.
+     *
+     * @throws DukeException if the file cannot be written
+     */
+    @Setup
+    public void setUp() throws DukeException {
+        this.tasks = TaskFixtures.create(this.noOfTasks);
+        // Storage resolves the path against the working directory, which is the module folder
+        this.storage = new Storage(Paths.get("build", "jmh-storage", "tasks-" + this.noOfTasks + ".txt").toString());
+        this.storage.saveTaskList(this.tasks);
+    }
+
+    /**
+     * Writes the whole TaskList to the file.
+     *
+     * @throws DukeException if the file cannot be written
+     */
+    @Benchmark
+    public void saveTaskList() throws DukeException {
+        this.storage.saveTaskList(this.tasks);
+    }
+
+    /**
+     * Loads the whole TaskList from the file.
+     *
+     * @return The loaded TaskList
+     * @throws DukeException if the file cannot be read
+     */
+    @Benchmark
+    public TaskList load() throws DukeException {
+        return this.storage.load();
+    }
+}
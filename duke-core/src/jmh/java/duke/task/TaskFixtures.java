@@ -0,0 +1,68 @@
+package duke.task;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import duke.exception.InvalidInputException;
+
+/**
+ * Builds TaskLists for the benchmarks. The lists have the same mix every time for a given size:
+ * 40% todos, 30% deadlines, 20% events and 10% fixed duration tasks, a third of them done,
+ * with dates spread over the month before and after today so that date queries find matches.
+ */
+public class TaskFixtures {
+    private static final String[] WORDS = {
+        "read", "report", "meeting", "groceries", "review", "lecture", "gym", "book", "project", "call",
+        "email", "standup", "tutorial", "quiz", "laundry", "dinner", "budget", "draft", "slides", "demo",
+    };
+    private static final long SEED = 2103L;
+    private static final int DATE_SPREAD_DAYS = 30;
+
+    private TaskFixtures() {
+    }
+
+    /**
+     * Creates a TaskList with the given number of tasks.
+     *
+     * @param noOfTasks The number of tasks
+     * @return The TaskList
+     */
+    public static TaskList create(int noOfTasks) {
+        Random random = new Random(SEED);
+        LocalDateTime today = LocalDate.now().atTime(9, 0);
+        TaskList tasks = new TaskList();
+
+        for (int i = 0; i < noOfTasks; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            LocalDateTime time = today.plusDays(random.nextInt(2 * DATE_SPREAD_DAYS + 1) - DATE_SPREAD_DAYS)
+                    .plusMinutes(30L * random.nextInt(20));
+            DukeTask task;
+            int kind = random.nextInt(10);
+            if (kind < 4) {
+                task = new TodoTask(name);
+            } else if (kind < 7) {
+                task = new DeadlineTask(name, time);
+            } else if (kind < 9) {
+                task = createEvent(name, time, time.plusHours(1 + random.nextInt(3)));
+            } else {
+                task = new FixedDurationTask(name, Duration.ofMinutes(30L * (1 + random.nextInt(6))));
+            }
+            if (random.nextInt(3) == 0) {
+                task.markAsDone();
+            }
+            tasks.addTask(task);
+        }
+        return tasks;
+    }
+
+    private static DukeTask createEvent(String name, LocalDateTime start, LocalDateTime end) {
+        try {
+            return new EventTask(name, start, end);
+        } catch (InvalidInputException e) {
+            // The end is always after the start
+            throw new AssertionError(e);
+        }
+    }
+}
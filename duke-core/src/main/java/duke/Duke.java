@@ -0,0 +1,446 @@
+package duke;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleConsumer;
+
+import duke.command.Command;
+import duke.command.ResponseCache;
+import duke.exception.DukeException;
+import duke.exception.InvalidInputException;
+import duke.exception.StorageFileException;
+import duke.metrics.CommandExecutedEvent;
+import duke.metrics.MetricsRegistry;
+import duke.metrics.MetricsRegistry.Phase;
+import duke.parser.ErrorMessage;
+import duke.parser.Parser;
+import duke.parser.Parser.Instruction;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.ResponseSink;
+import duke.ui.Ui;
+
+/**
+ * The main Duke class to run.
+ * Duke may be called from several threads at once. Commands that change the TaskList are executed one at a time,
+ * while read-only commands are executed on a snapshot of the TaskList without waiting for each other.
+ * Responses to queries are cached until the TaskList changes.
+ * The TaskList may also be loaded in the background with {@link #startLoading(String, DoubleConsumer)},
+ * in which case commands wait until it has been loaded.
+ */
+public class Duke {
+    // The number of characters of cached responses to keep, about 2 MB
+    private static final long RESPONSE_CACHE_BUDGET = 1 << 20;
+    // Longer responses are streamed without being cached, so that they are never held in memory as a whole
+    private static final int MAX_CACHED_RESPONSE_LENGTH = (int) (RESPONSE_CACHE_BUDGET / 8);
+    private final Storage storage;
+    // Replaced once by the thread that loads the storage file
+    private volatile TaskList list;
+    private final Ui ui;
+    private final Lock writeLock = new ReentrantLock();
+    private final ResponseCache responseCache = new ResponseCache(RESPONSE_CACHE_BUDGET);
+    // Completes once the TaskList has been loaded, or completes exceptionally if the storage file cannot be read
+    private final CompletableFuture<Void> loading = new CompletableFuture<>();
+
+    /**
+     * The constructor that takes in a String filePath that specifies the path for the storage file.
+     *
+     * @param filePath Specifies the path for the storage file
+     */
+    public Duke(String filePath) {
+        this(new Storage(filePath));
+
+        try {
+            load(progress -> { });
+        } catch (StorageFileException e) {
+            // Throw a runtime exception
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a Duke with an empty TaskList that is not loaded yet.
+     *
+     * @param storage The storage of the TaskList
+     */
+    private Duke(Storage storage) {
+        // Initialize the task list
+        this.list = new TaskList();
+        // Initialize the user interface
+        this.ui = new Ui();
+        // Initialize the storage object
+        this.storage = storage;
+    }
+
+    /**
+     * Creates a Duke and loads its TaskList from the storage file on a background thread, so that the caller
+     * can carry on, for example to show a window, while a large file is loaded.
+     * Commands that arrive in the meantime wait for the loading to finish.
+     *
+     * @param filePath Specifies the path for the storage file
+     * @param progressListener Receives the fraction of the file that has been loaded, from 0 to 1,
+     *                         on the loading thread
+     * @return The Duke, whose TaskList is still being loaded
+     */
+    public static Duke startLoading(String filePath, DoubleConsumer progressListener) {
+        Duke duke = new Duke(new Storage(filePath));
+        Thread loader = new Thread(() -> {
+            try {
+                duke.load(progressListener);
+            } catch (StorageFileException e) {
+                // Commands report the error instead, see awaitLoaded()
+            }
+        }, "duke-storage-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return duke;
+    }
+
+    /**
+     * Loads the TaskList from storage. A storage file with invalid records is replaced by an empty TaskList.
+     * Whatever goes wrong, the loading future is completed, so that commands never wait for it forever.
+     *
+     * @param progressListener Receives the fraction of the file that has been loaded
+     * @throws StorageFileException if the storage file cannot be read, or has a record that cannot be decoded
+     */
+    private void load(DoubleConsumer progressListener) throws StorageFileException {
+        try {
+            // Attempt to load tasks from storage
+            this.list = this.storage.load(progressListener);
+            this.loading.complete(null);
+        } catch (InvalidInputException e) {
+            // Handle invalid input exception
+            this.ui.displayWithBar(e.getMessage());
+            this.loading.complete(null);
+        } catch (StorageFileException e) {
+            // Handle storage file exception
+            this.ui.displayWithBar(e.getMessage());
+            this.loading.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | AssertionError e) {
+            // A record that the Storage does not check for, such as a blank line or a missing field.
+            // Storage asserts on some records, which fails like this when assertions are enabled
+            StorageFileException error = new StorageFileException(ErrorMessage.STORAGE_ERROR);
+            error.initCause(e);
+            this.ui.displayWithBar(error.getMessage());
+            this.loading.completeExceptionally(error);
+            throw error;
+        }
+    }
+
+    /**
+     * Returns a future that completes once the TaskList has been loaded, or completes exceptionally
+     * with a StorageFileException if the storage file cannot be read.
+     *
+     * @return The future that completes when the TaskList is loaded
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return this.loading;
+    }
+
+    /**
+     * Gets the response from Duke. This method is safe to be called from multiple threads.
+     *
+     * @param input User input
+     * @return Response from Duke
+     */
+    public String getResponse(String input) {
+        StringBuilder response = new StringBuilder();
+        respond(input, ResponseSink.of(response));
+        return response.toString();
+    }
+
+    /**
+     * Streams the response from Duke into the given sink as it is produced.
+     * This method is safe to be called from multiple threads.
+     *
+     * @param input User input
+     * @param sink The sink that receives the response
+     */
+    public void respond(String input, ResponseSink sink) {
+        if (MetricsRegistry.isEnabled()) {
+            respondMeasured(input, sink);
+            return;
+        }
+        // use a fresh ui for every request so that concurrent responses are not mixed up
+        Ui response = new Ui(sink);
+        try {
+            awaitLoaded();
+            // parse the input and create a command
+            Command command = Parser.parse(input);
+            // execute the command
+            executeRecorded(input, command, response);
+        } catch (DukeException e) {
+            // append the error message to the ui's response
+            response.appendResponse(e.getMessage());
+        }
+    }
+
+    /**
+     * Does the same as {@link #respond(String, ResponseSink)}, and records the latency of the command and of
+     * each of its phases in the shared MetricsRegistry. Waiting for the TaskList to be loaded is not counted.
+     *
+     * @param input User input
+     * @param sink The sink that receives the response
+     */
+    private void respondMeasured(String input, ResponseSink sink) {
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        TimedSink timedSink = new TimedSink(sink);
+        Ui response = new Ui(timedSink);
+        Instruction instruction = Parser.findInstruction(input);
+        long start = 0;
+        try {
+            awaitLoaded();
+            start = System.nanoTime();
+            Command command = Parser.parse(input);
+            long parsed = System.nanoTime();
+            metrics.recordPhase(Phase.PARSE, parsed - start);
+            executeRecorded(input, command, response);
+            metrics.recordPhase(Phase.EXECUTE, System.nanoTime() - parsed);
+        } catch (DukeException e) {
+            metrics.recordError();
+            response.appendResponse(e.getMessage());
+        }
+        metrics.recordPhase(Phase.RENDER, timedSink.getNanos());
+        if (instruction != null && start != 0) {
+            metrics.recordInstruction(instruction, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns whether the given input leaves the TaskList unchanged, such as a query or an unknown command.
+     * The input is only matched against the instruction tags, so it is not parsed a second time when it is run.
+     *
+     * @param input User input
+     * @return true if running the input cannot change the TaskList
+     */
+    public boolean isReadOnly(String input) {
+        Instruction instruction = Parser.findInstruction(input);
+        // An unknown command only produces an error message
+        return instruction == null || instruction.isReadOnly();
+    }
+
+    /**
+     * Gets the number of tasks currently in the TaskList.
+     *
+     * @return The number of tasks in the TaskList
+     */
+    public int getNoOfTasks() {
+        return this.list.getNoOfTasks();
+    }
+
+    /**
+     * Gets the version of the TaskList, which changes whenever the TaskList is changed.
+     *
+     * @return The version of the TaskList
+     */
+    public long getVersion() {
+        return this.list.getVersion();
+    }
+
+    /**
+     * Writes the current TaskList to the storage file.
+     *
+     * @throws StorageFileException if the storage file cannot be written
+     */
+    public void flush() throws StorageFileException {
+        // Writing before the TaskList is loaded would overwrite the storage file with an empty list
+        awaitLoaded();
+        this.writeLock.lock();
+        try {
+            this.storage.saveTaskList(this.list);
+            this.storage.flush();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sets whether commands should defer saving the TaskList to the storage file.
+     * While saves are deferred, changes are only written to the storage file on {@link #flush()}.
+     *
+     * @param isDeferred Whether saves should be deferred
+     */
+    public void setSavesDeferred(boolean isDeferred) {
+        this.writeLock.lock();
+        try {
+            this.storage.setDeferred(isDeferred);
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the TaskList has been loaded.
+     *
+     * @throws StorageFileException if the storage file could not be read, so there is no TaskList to work on
+     */
+    private void awaitLoaded() throws StorageFileException {
+        try {
+            this.loading.join();
+        } catch (CompletionException e) {
+            throw (StorageFileException) e.getCause();
+        }
+    }
+
+    /**
+     * Executes the given command as a Flight Recorder event, which records the Instruction and the number of tasks.
+     *
+     * @param input The user input that the command was parsed from
+     * @param command The command to be executed
+     * @param response The ui that receives the response of the command
+     * @throws DukeException if there is any error during the execution of the command
+     */
+    private void executeRecorded(String input, Command command, Ui response) throws DukeException {
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        try {
+            execute(command, response);
+        } finally {
+            event.finish(input, getNoOfTasks());
+        }
+    }
+
+    /**
+     * Executes the given command. Read-only commands run on a snapshot of the TaskList,
+     * while all other commands hold the write lock so that they take effect one at a time.
+     * The response of a command that holds the write lock is collected and only handed over once the lock is
+     * released, so that a slow reader of the response, such as a client of a server, cannot hold up other commands.
+     *
+     * @param command The command to be executed
+     * @param response The ui that receives the response of the command
+     * @throws DukeException if there is any error during the execution of the command
+     */
+    private void execute(Command command, Ui response) throws DukeException {
+        if (command.isReadOnly()) {
+            // The snapshot carries the version that its tasks belong to, so the two always match
+            TaskList snapshot = this.list.snapshot();
+            executeCached(command, snapshot, snapshot.getVersion(), response);
+            return;
+        }
+
+        Ui lockedResponse = new Ui();
+        this.writeLock.lock();
+        try {
+            executeCached(command, this.list, this.list.getVersion(), lockedResponse);
+        } finally {
+            this.writeLock.unlock();
+            response.appendResponse(lockedResponse.getResponse());
+        }
+    }
+
+    /**
+     * Executes the given command on the given TaskList, or gives back its cached response if the command
+     * was executed at the same version of the TaskList before.
+     * The response of a read-only command is cached under the version it was computed from. Only a command that
+     * holds the write lock may change the TaskList, so only then is the version read again after the command.
+     *
+     * @param command The command to be executed
+     * @param tasks The TaskList to execute the command on
+     * @param version The version of the TaskList before the command is executed
+     * @param response The ui that receives the response of the command
+     * @throws DukeException if there is any error during the execution of the command
+     */
+    private void executeCached(Command command, TaskList tasks, long version, Ui response) throws DukeException {
+        String cacheKey = command.getCacheKey();
+        if (cacheKey == null) {
+            command.execute(tasks, response, this.storage);
+            return;
+        }
+
+        String cachedResponse = this.responseCache.get(cacheKey, version);
+        if (cachedResponse != null) {
+            response.appendResponse(cachedResponse);
+            return;
+        }
+        CappedCopy copy = new CappedCopy(response.getSink(), MAX_CACHED_RESPONSE_LENGTH);
+        command.execute(tasks, new Ui(copy), this.storage);
+        if (copy.isComplete()) {
+            // A command that changes the TaskList, such as sort, leaves it at a new version
+            long cachedVersion = command.isReadOnly() ? version : tasks.getVersion();
+            this.responseCache.put(cacheKey, cachedVersion, copy.toString());
+        }
+    }
+
+    /**
+     * A sink that passes the response on to another sink and adds up the time that the other sink takes,
+     * such as to show the response or to send it over the network.
+     */
+    private static class TimedSink implements ResponseSink {
+        private final ResponseSink target;
+        private long nanos;
+
+        private TimedSink(ResponseSink target) {
+            this.target = target;
+        }
+
+        @Override
+        public void append(CharSequence text) {
+            long start = System.nanoTime();
+            this.target.append(text);
+            this.nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void append(char c) {
+            long start = System.nanoTime();
+            this.target.append(c);
+            this.nanos += System.nanoTime() - start;
+        }
+
+        private long getNanos() {
+            return this.nanos;
+        }
+    }
+
+    /**
+     * A sink that passes the response on to another sink and keeps a copy of it, unless the response
+     * turns out to be longer than the given limit.
+     */
+    private static class CappedCopy implements ResponseSink {
+        private final ResponseSink target;
+        private final int limit;
+        private StringBuilder copy = new StringBuilder();
+
+        private CappedCopy(ResponseSink target, int limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void append(CharSequence text) {
+            this.target.append(text);
+            if (this.copy != null && this.copy.length() + text.length() <= this.limit) {
+                this.copy.append(text);
+            } else {
+                this.copy = null;
+            }
+        }
+
+        @Override
+        public void append(char c) {
+            this.target.append(c);
+            if (this.copy != null && this.copy.length() < this.limit) {
+                this.copy.append(c);
+            } else {
+                this.copy = null;
+            }
+        }
+
+        /**
+         * Returns whether the whole response was copied.
+         *
+         * @return true if the response was not longer than the limit
+         */
+        private boolean isComplete() {
+            return this.copy != null;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(this.copy);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package duke.command;
+
+import java.util.concurrent.CancellationException;
+
+import duke.exception.DukeException;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * An abstract instruction class encapsulating a user input instruction in Duke, which can be extended
+ * by more specific input instructions like addToDoInstruction, ExitInstructions, etc.
+ */
+public abstract class Command {
+    /**
+     * Indicates whether the Command is the Exit Command.
+     *
+     * @return whether the command is the exit command.
+     */
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Indicates whether the Command only reads the TaskList without changing it or the storage file.
+     * Read-only Commands may be executed on a snapshot of the TaskList, concurrently with other Commands,
+     * and may be executed more than once, so they must not change after they are created.
+     *
+     * @return whether the command is read-only.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns the key under which the response of this Command may be cached, or null if it may not be cached.
+     * A Command may only have a key if its response depends on nothing but the key and the tasks in the TaskList,
+     * and if executing it again right after itself leaves the TaskList unchanged.
+     *
+     * @return the cache key of the command, or null.
+     */
+    public String getCacheKey() {
+        return null;
+    }
+
+    /**
+     * The execute method is responsible for executing the command.
+     *
+     * @param tasks the task list where the command will be executed on
+     * @param ui the user interface where the result of the command will be displayed
+     * @param storage the storage where the task list will be saved
+     * @throws DukeException if there is any error during the execution of the command
+     */
+    public abstract void execute(TaskList tasks, Ui ui, Storage storage) throws DukeException;
+
+    /**
+     * Stops a query that has been cancelled, which is signalled by interrupting the thread that runs it.
+     * Queries that go through every task before they respond call this for every task, so that they can be
+     * stopped before their response starts.
+     *
+     * @throws CancellationException if the current thread has been interrupted
+     */
+    protected static void checkNotCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+    }
+}
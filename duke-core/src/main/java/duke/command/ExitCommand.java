@@ -33,4 +33,14 @@ public class ExitCommand extends Command {
     public boolean isExit() {
         return true;
     }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.ArrayList;
+
 import duke.storage.Storage;
 import duke.task.DukeTask;
 import duke.task.TaskList;
@@ -30,15 +32,12 @@ public class FindCommand extends Command {
      * @param storage Storage object for accessing the storage
      */
     public void execute(TaskList tasks, Ui ui, Storage storage) {
-        StringBuilder message = new StringBuilder();
         for (String description : this.descriptions) {
             // Get the matched tasks based on the provided description
             TaskList matchedTaskList = getMatchedTasks(tasks, description);
-            // Append the matched tasks message for the current description
-            message.append(getMatchedTasksMessage(matchedTaskList, description));
+            // Display the matched tasks for the current description
+            appendMatchedTasks(ui, matchedTaskList, description);
         }
-        // Display the final message containing matched tasks for all the descriptions
-        ui.appendResponse(message.toString());
     }
 
     /**
@@ -50,37 +49,54 @@ public class FindCommand extends Command {
      * @return - a task list containing tasks that match the given description
      */
     private TaskList getMatchedTasks(TaskList tasks, String description) {
-        TaskList matchedTaskList = new TaskList();
-        for (DukeTask task : tasks.getTasks()) {
+        ArrayList<DukeTask> matchedTasks = new ArrayList<>();
+        for (DukeTask task : tasks) {
+            checkNotCancelled();
             // check if each task matches the given description
             if (task.matches(description)) {
-                matchedTaskList.addTask(task);
+                matchedTasks.add(task);
             }
         }
-        return matchedTaskList;
+        return new TaskList(matchedTasks);
     }
 
     /**
-     * Gets the message for matched tasks.
+     * Displays the matched tasks for a description.
      *
+     * @param ui The Ui object for displaying the matched tasks
      * @param matchedTaskList The list of matched tasks
      * @param description The description used to find the tasks
-     * @return The message for matched tasks
      */
-    private String getMatchedTasksMessage(TaskList matchedTaskList, String description) {
-        // Initialize a message string
-        String message = "";
+    private void appendMatchedTasks(Ui ui, TaskList matchedTaskList, String description) {
         // Check if the matched task list is not empty
-        if (!matchedTaskList.getTasks().isEmpty()) {
-            // If there are matched tasks, add them to the message string with a formatted message
-            message = String.format(MATCHING_TASKS_MESSAGE, description) + matchedTaskList + "\n";
+        if (!matchedTaskList.isEmpty()) {
+            // If there are matched tasks, display them after a formatted message
+            ui.appendResponse(String.format(MATCHING_TASKS_MESSAGE, description));
+            ui.appendTaskList(matchedTaskList);
+            ui.appendResponse("\n");
         } else {
-            // If there are no matched tasks, add a no matching tasks message to the message string
-            message = String.format(NO_MATCHING_TASKS_MESSAGE, description);
+            // If there are no matched tasks, display a no matching tasks message
+            ui.appendResponse(String.format(NO_MATCHING_TASKS_MESSAGE, description));
         }
+    }
 
-        // return the message string
-        return message;
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
-}
 
+    /**
+     * Returns the key under which the response of this Command is cached.
+     *
+     * @return a key made up of the descriptions to be found
+     */
+    @Override
+    public String getCacheKey() {
+        return "find " + String.join(" ", this.descriptions);
+    }
+}
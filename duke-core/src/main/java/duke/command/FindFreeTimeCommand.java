@@ -65,9 +65,8 @@ public class FindFreeTimeCommand extends Command {
      */
     private boolean isDayFree(LocalDate date, TaskList tasks) {
         // Iterate through all tasks in the task list
-        for (int i = 0; i < tasks.getNoOfTasks(); i++) {
-            DukeTask task = tasks.getTask(i);
-
+        for (DukeTask task : tasks) {
+            checkNotCancelled();
             if (task.getType() == TaskType.DEADLINE) {
                 // Check if the task is a DeadlineTask
                 if (isDeadlineTaskScheduledOnDate(date, (DeadlineTask) task)) {
@@ -110,4 +109,14 @@ public class FindFreeTimeCommand extends Command {
         return (start.isAfter(task.getStartDate()) || start.isEqual(task.getStartDate()))
                 && (end.isBefore(task.getEndDate()) || end.isEqual(task.getEndDate()));
     }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
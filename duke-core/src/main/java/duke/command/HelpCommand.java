@@ -84,6 +84,7 @@ public class HelpCommand extends Command {
         MARK("mark [taskIndex]", "Marks the task specified by the given index as done"),
         MASS_DELETE("massDelete", "Deletes all the tasks that have been marked as done"),
         SORT("sort", "Sorts all the event in the task list according to their type"),
+        STATS("stats", "Shows how often recently parsed commands are reused"),
         TODO("todo [description]", "Adds a todo task"),
         UNMARK("unmark [taskIndex]", "Marks the task specified by the given index as undone"),
         UPDATE("update [taskIndex] [description]", "Updates the description of the task specified "
@@ -172,4 +173,14 @@ public class HelpCommand extends Command {
             ui.appendResponse(VAILD_DURATION_FORMAT);
         }
     }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
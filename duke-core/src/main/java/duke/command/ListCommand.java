@@ -0,0 +1,169 @@
+package duke.command;
+
+import java.util.Iterator;
+import java.util.Locale;
+
+import duke.storage.Storage;
+import duke.task.DukeTask;
+import duke.task.TaskList;
+import duke.task.TaskType;
+import duke.ui.Ui;
+
+/**
+ * A ListCommand class that encapsulates the action of displaying the tasks on the TaskList.
+ * It displays either all the tasks, or one page of them, optionally only the tasks of a given type or the tasks
+ * that are not done yet. Each task is shown with its index in the TaskList, so that the index can be used in
+ * other commands. Finding the start of a page takes logarithmic time, so showing a page of unfiltered tasks costs
+ * as much as the page, while a filtered page also costs the tasks that are skipped because they do not match,
+ * up to the next matching task after the page.
+ */
+
+public class ListCommand extends Command {
+    /**
+     * The page size that stands for no limit on the number of tasks shown.
+     */
+    public static final int ALL_TASKS = Integer.MAX_VALUE;
+    private static final String NO_TASKS_MESSAGE = "There are no tasks in your list.";
+    private static final String TASK_LIST_MESSAGE = "Here are the tasks in your list:\n";
+    private static final String NO_TASKS_ON_PAGE_MESSAGE = "There are no matching tasks on this page.";
+    private static final String MORE_TASKS_MESSAGE = "There are more tasks, type \"list from %d size %d%s\" "
+            + "to see them.";
+    private final int fromIndex;
+    private final int skippedMatches;
+    private final int pageSize;
+    private final TaskType type;
+    private final boolean isUndoneOnly;
+
+    /**
+     * The constructor of ListCommand that displays all the tasks.
+     */
+    public ListCommand() {
+        this(0, 0, ALL_TASKS, null, false);
+    }
+
+    /**
+     * The constructor of ListCommand that displays one page of the matching tasks.
+     *
+     * @param fromIndex The index of the task to start looking for matching tasks from
+     * @param skippedMatches The number of matching tasks to skip before the page starts
+     * @param pageSize The maximum number of tasks to be shown, or {@link #ALL_TASKS}
+     * @param type The type of the tasks to be shown, or null to show tasks of all types
+     * @param isUndoneOnly Whether only the tasks that are not done yet are shown
+     */
+    public ListCommand(int fromIndex, int skippedMatches, int pageSize, TaskType type, boolean isUndoneOnly) {
+        this.fromIndex = fromIndex;
+        this.skippedMatches = skippedMatches;
+        this.pageSize = pageSize;
+        this.type = type;
+        this.isUndoneOnly = isUndoneOnly;
+    }
+
+    /**
+     * Displays the requested tasks with their respective types and status.
+     *
+     * @param tasks   The user TaskList that contains all the task to be manipulated
+     * @param ui      The ui Object used to display information
+     * @param storage The Storage Object used to save and load the TaskList
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        // check if there are no tasks
+        if (tasks.getNoOfTasks() == 0) {
+            ui.appendResponse(NO_TASKS_MESSAGE);
+            return;
+        }
+
+        // without filters every task matches, so the skipped tasks can be jumped over instead of walked through
+        boolean isFiltered = this.type != null || this.isUndoneOnly;
+        long start = (long) this.fromIndex + (isFiltered ? 0 : this.skippedMatches);
+        int matchesToSkip = isFiltered ? this.skippedMatches : 0;
+        if (start >= tasks.getNoOfTasks()) {
+            ui.appendResponse(NO_TASKS_ON_PAGE_MESSAGE);
+            return;
+        }
+
+        Iterator<DukeTask> iterator = tasks.iterator((int) start);
+        int index = (int) start;
+        int shown = 0;
+        while (iterator.hasNext() && shown < this.pageSize) {
+            DukeTask task = iterator.next();
+            index++;
+            if (!matches(task)) {
+                continue;
+            }
+            if (matchesToSkip > 0) {
+                matchesToSkip--;
+                continue;
+            }
+            if (shown == 0) {
+                ui.appendResponse(TASK_LIST_MESSAGE);
+            }
+            // show the index of the task in the whole list, so that it can be used in other commands
+            ui.appendTask(index, task);
+            shown++;
+        }
+
+        if (shown == 0) {
+            ui.appendResponse(NO_TASKS_ON_PAGE_MESSAGE);
+            return;
+        }
+
+        // only a full page leaves tasks behind, so look ahead for the next matching task, where the next page starts
+        while (iterator.hasNext()) {
+            DukeTask task = iterator.next();
+            index++;
+            if (matches(task)) {
+                ui.appendResponse(String.format(MORE_TASKS_MESSAGE, index, this.pageSize, describeFilters()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the task passes the filters of this command.
+     *
+     * @param task The task to be checked
+     * @return Whether the task should be shown
+     */
+    private boolean matches(DukeTask task) {
+        return (this.type == null || task.getType() == this.type) && !(this.isUndoneOnly && task.getStatus());
+    }
+
+    /**
+     * Describes the filters of this command the way they are typed in.
+     *
+     * @return The filters, each preceded by a space
+     */
+    private String describeFilters() {
+        String filters = "";
+        if (this.type != null) {
+            String typeName = this.type == TaskType.FIXED_DURATION ? "fixed" : this.type.name();
+            filters += " --type " + typeName.toLowerCase(Locale.ROOT);
+        }
+        if (this.isUndoneOnly) {
+            filters += " --undone";
+        }
+        return filters;
+    }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the key under which the response of this Command is cached.
+     *
+     * @return a key made up of the page and the filters to be shown
+     */
+    @Override
+    public String getCacheKey() {
+        return String.format("list %d %d %d%s", this.fromIndex, this.skippedMatches, this.pageSize,
+                describeFilters());
+    }
+}
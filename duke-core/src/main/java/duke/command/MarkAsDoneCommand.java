@@ -59,8 +59,7 @@ public class MarkAsDoneCommand extends Command {
             throw new InvalidInputException(errorMessage);
         } else {
             // Mark the task as done
-            DukeTask currentTask = tasks.getTask(this.taskIndex);
-            currentTask.markAsDone();
+            DukeTask currentTask = tasks.markTask(this.taskIndex);
             String message = MARKED_AS_DONE_MESSAGE + currentTask;
             ui.appendResponse(message);
             // Save the updated task list to storage
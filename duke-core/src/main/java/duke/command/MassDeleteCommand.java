@@ -0,0 +1,53 @@
+package duke.command;
+
+import java.util.ArrayList;
+
+import duke.exception.DukeException;
+import duke.storage.Storage;
+import duke.task.DukeTask;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * A MassDeleteCommand class that encapsulates the action of delete all the done events.
+ */
+public class MassDeleteCommand extends Command {
+    private static final String DELETE_MESSAGE = "I have deleted all the tasks that have been marked as done.\n";
+    private static final String REMAINING_TASKS_MESSAGE = "Here are the remaining tasks in your list:\n";
+
+    /**
+     * Executes the command to delete all tasks that have been marked as done.
+     *
+     * @param tasks The user TaskList that contains all the task to be manipulated
+     * @param ui The ui Object used to display information
+     * @param storage The Storage Object used to save and load the TaskList
+     * @throws DukeException Throws exception if there is an error in the execution of the command
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) throws DukeException {
+        // Delete done tasks from the task list
+        deleteDoneTasks(tasks);
+        // Append the response message followed by the remaining tasks to the UI
+        ui.appendResponse(DELETE_MESSAGE + REMAINING_TASKS_MESSAGE);
+        ui.appendTaskList(tasks);
+    }
+
+    /**
+     * Deletes all tasks that have been marked as done.
+     *
+     * @param tasks The user TaskList that contains all the task to be manipulated
+     */
+    private void deleteDoneTasks(TaskList tasks) {
+        // keep the tasks that are not done and put them back in one change,
+        // so that readers never see a TaskList with only some of the done tasks deleted
+        ArrayList<DukeTask> remainingTasks = new ArrayList<>(tasks.getNoOfTasks());
+        for (DukeTask task : tasks) {
+            if (!task.getStatus()) {
+                remainingTasks.add(task);
+            }
+        }
+        if (remainingTasks.size() < tasks.getNoOfTasks()) {
+            tasks.setTasks(remainingTasks);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package duke.command;
+
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * A ReminderCommand class the encapsulates the action of displaying
+ * all the upcoming deadline task and event tasks.
+ */
+public class ReminderCommand extends Command {
+    private static final String REMINDER_MESSAGE = "Here are the upcoming deadlines:\n";
+
+    /**
+     * Displays all the upcoming deadlines.
+     *
+     * @param tasks The user TaskList that contains all the task to be manipulated
+     * @param ui The ui Object used to display information
+     * @param storage The Storage Object used to save and load the TaskList
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        //Create a new TaskList to store all the tasks with deadlines
+        TaskList deadlineList = tasks.extractDeadlines();
+        //append the header and then the tasks with deadlines to the UI
+        ui.appendResponse(REMINDER_MESSAGE);
+        ui.appendTaskList(deadlineList);
+    }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the key under which the response of this Command is cached.
+     *
+     * @return the same key for every ReminderCommand
+     */
+    @Override
+    public String getCacheKey() {
+        return "reminder";
+    }
+}
@@ -0,0 +1,101 @@
+package duke.command;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A ResponseCache keeps the responses of recent queries on a TaskList, each stamped with the version of the
+ * TaskList it was made from. A response is only given back while the TaskList is still at that version,
+ * so a query that is repeated on an unchanged TaskList is answered without running it again.
+ * The responses take up at most the given number of characters; the least recently used ones are dropped
+ * to make room. The ResponseCache is safe to be used from multiple threads.
+ */
+public class ResponseCache {
+    private final long budget;
+    // Keeps the responses in order of access, from the least recently used to the most recently used
+    private final LinkedHashMap<String, Response> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+
+    /**
+     * A response together with the version of the TaskList it was made from.
+     */
+    private static class Response {
+        private final long version;
+        private final String text;
+
+        private Response(long version, String text) {
+            this.version = version;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Creates a ResponseCache whose responses take up at most the given number of characters.
+     *
+     * @param budget The maximum number of characters of all responses together
+     */
+    public ResponseCache(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Gets the response to the query with the given key, if it was made from the given version of the TaskList.
+     *
+     * @param key The cache key of the query, see {@link Command#getCacheKey()}
+     * @param version The current version of the TaskList
+     * @return The response, or null if there is no response made from the given version
+     */
+    public synchronized String get(String key, long version) {
+        Response response = this.responses.get(key);
+        if (response == null) {
+            return null;
+        }
+        if (response.version != version) {
+            // The TaskList has changed since, so the response can never be used again
+            remove(key);
+            return null;
+        }
+        return response.text;
+    }
+
+    /**
+     * Keeps the response to the query with the given key, made from the given version of the TaskList.
+     * Responses that are larger than the whole budget are not kept.
+     *
+     * @param key The cache key of the query, see {@link Command#getCacheKey()}
+     * @param version The version of the TaskList the response was made from
+     * @param text The response
+     */
+    public synchronized void put(String key, long version, String text) {
+        if (text.length() > this.budget) {
+            return;
+        }
+        remove(key);
+        this.responses.put(key, new Response(version, text));
+        this.size += text.length();
+
+        // Drop the least recently used responses until the budget is met
+        Iterator<Response> iterator = this.responses.values().iterator();
+        while (this.size > this.budget) {
+            this.size -= iterator.next().text.length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the number of responses that are kept.
+     *
+     * @return The number of responses in the cache
+     */
+    public synchronized int getNoOfResponses() {
+        return this.responses.size();
+    }
+
+    private void remove(String key) {
+        Response removed = this.responses.remove(key);
+        if (removed != null) {
+            this.size -= removed.text.length();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.util.ArrayList;
+
 import duke.exception.StorageFileException;
 import duke.storage.Storage;
 import duke.task.DukeTask;
@@ -32,22 +34,37 @@ public class SortCommand extends Command {
 
         // categorize all the tasks in the TaskList into different categories
         TaskList[] listOfList = tasks.categorizeTask();
-        tasks.clearTasks();
 
-        // add the sorted tasks back to the TaskList
+        // put the sorted tasks back in one change, so that readers never see a half sorted TaskList
+        ArrayList<DukeTask> sortedTasks = new ArrayList<>(tasks.getNoOfTasks());
         for (TaskList list : listOfList) {
-            for (DukeTask task : list.getTasks()) {
-                tasks.addTask(task);
+            for (DukeTask task : list) {
+                sortedTasks.add(task);
             }
         }
+        tasks.setTasks(sortedTasks);
 
         // save the sorted tasks in storage
         storage.saveTaskList(tasks);
 
         // append the final task list to the UI
-        ui.appendResponse("Here are all your Deadline Task:\n" + listOfList[0] + "\n");
-        ui.appendResponse("Here are all your Event Task:\n" + listOfList[1] + "\n");
-        ui.appendResponse("Here are all your Fixed Duration Task:\n" + listOfList[2] + "\n");
-        ui.appendResponse("Here are all your Todo Task:\n" + listOfList[3]);
+        ui.appendResponse("Here are all your Deadline Task:\n");
+        ui.appendTaskList(listOfList[0]);
+        ui.appendResponse("\nHere are all your Event Task:\n");
+        ui.appendTaskList(listOfList[1]);
+        ui.appendResponse("\nHere are all your Fixed Duration Task:\n");
+        ui.appendTaskList(listOfList[2]);
+        ui.appendResponse("\nHere are all your Todo Task:\n");
+        ui.appendTaskList(listOfList[3]);
+    }
+
+    /**
+     * Returns the key under which the response of this Command is cached.
+     *
+     * @return the same key for every SortCommand
+     */
+    @Override
+    public String getCacheKey() {
+        return "sort";
     }
 }
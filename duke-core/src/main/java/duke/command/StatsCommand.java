@@ -0,0 +1,58 @@
+package duke.command;
+
+import duke.metrics.MetricsRegistry;
+import duke.parser.CommandCache;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * A StatsCommand class that encapsulates the action of displaying how well the parsed commands are reused,
+ * and the latency of every command when metrics are enabled.
+ */
+public class StatsCommand extends Command {
+    private static final String COMMAND_CACHE_MESSAGE = "Parsed command cache:\n"
+            + "hits: %d, misses: %d, hit rate: %.1f%%\n"
+            + "cached commands: %d of %d";
+    private static final String METRICS_OFF_MESSAGE = "Latency metrics are off. "
+            + "Start Mr. Bear with -Dduke.metrics=true to record them.";
+    private final CommandCache commandCache;
+
+    /**
+     * The constructor of StatsCommand that takes in the cache whose statistics are displayed.
+     *
+     * @param commandCache The cache of parsed commands
+     */
+    public StatsCommand(CommandCache commandCache) {
+        this.commandCache = commandCache;
+    }
+
+    /**
+     * Displays the number of hits and misses of the parsed command cache, followed by the latency metrics.
+     *
+     * @param tasks   The user TaskList that contains all the task to be manipulated
+     * @param ui      The ui Object used to display information
+     * @param storage The Storage Object used to save and load the TaskList
+     */
+    @Override
+    public void execute(TaskList tasks, Ui ui, Storage storage) {
+        long hits = this.commandCache.getHits();
+        long misses = this.commandCache.getMisses();
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0 : 100.0 * hits / lookups;
+        ui.appendResponse(String.format(COMMAND_CACHE_MESSAGE, hits, misses, hitRate,
+                this.commandCache.getSize(), this.commandCache.getCapacity()));
+        ui.appendResponse("\n");
+        ui.appendResponse(MetricsRegistry.isEnabled() ? MetricsRegistry.getDefault().report() : METRICS_OFF_MESSAGE);
+    }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
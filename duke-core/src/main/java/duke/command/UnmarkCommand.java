@@ -57,8 +57,7 @@ public class UnmarkCommand extends Command {
             throw new InvalidInputException(errorMessage);
         } else {
             // get the task at the input index and unmark it
-            DukeTask currentTask = tasks.getTask(this.taskIndex);
-            currentTask.unmark();
+            DukeTask currentTask = tasks.unmarkTask(this.taskIndex);
             // construct success message
             String message = UNMARKED_TASK_MESSAGE + currentTask;
             ui.appendResponse(message);
@@ -69,8 +69,7 @@ public class UpdateCommand extends Command {
         }
 
         // Get the task at the specified index and update its information
-        DukeTask currentTask = tasks.getTask(this.taskIndex);
-        currentTask.updateInformation(this.information);
+        DukeTask currentTask = tasks.updateTask(this.taskIndex, this.information);
         // Construct success message and pass it to UI
         String message = String.format(UPDATE_TASK_MESSAGE, currentTask);
         ui.appendResponse(message);
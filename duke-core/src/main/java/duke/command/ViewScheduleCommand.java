@@ -1,6 +1,7 @@
 package duke.command;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 
 import duke.exception.InvalidInputException;
 import duke.storage.Storage;
@@ -43,8 +44,8 @@ public class ViewScheduleCommand extends Command {
             throw new InvalidInputException(NO_TASK_ON_DATE_ERROR);
         } else {
             //Otherwise, display the tasks found on the specified date
-            String message = TASK_ON_DATE_MESSAGE + matchedTasks;
-            ui.appendResponse(message);
+            ui.appendResponse(TASK_ON_DATE_MESSAGE);
+            ui.appendTaskList(matchedTasks);
         }
     }
 
@@ -56,15 +57,36 @@ public class ViewScheduleCommand extends Command {
      * @return A new TaskList containing all tasks that match the given date
      */
     private TaskList findTasksOnDate(TaskList tasks, LocalDate date) {
-        TaskList matchedTasks = new TaskList();
+        ArrayList<DukeTask> matchedTasks = new ArrayList<>();
         //iterate through all tasks
-        for (DukeTask task : tasks.getTasks()) {
+        for (DukeTask task : tasks) {
+            checkNotCancelled();
             //check if task matches the given date
             if (task.matchesDate(date)) {
                 //add task to the list of matched tasks
-                matchedTasks.addTask(task);
+                matchedTasks.add(task);
             }
         }
-        return matchedTasks;
+        return new TaskList(matchedTasks);
+    }
+
+    /**
+     * Indicates that this Command only reads the TaskList.
+     *
+     * @return always return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Returns the key under which the response of this Command is cached.
+     *
+     * @return a key made up of the date to be viewed
+     */
+    @Override
+    public String getCacheKey() {
+        return "view " + this.date;
     }
 }
@@ -0,0 +1,44 @@
+package duke.metrics;
+
+import duke.parser.Parser;
+import duke.parser.Parser.Instruction;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for the execution of one command, with its Instruction and the size of the TaskList.
+ * Recordings show which commands, at which list sizes, take the longest.
+ */
+@Name("duke.CommandExecuted")
+@Label("Command Executed")
+@Category({"Mr. Bear", "Commands"})
+@Description("Execution of a command against the task list")
+@StackTrace(false)
+public class CommandExecutedEvent extends Event {
+    @Label("Instruction")
+    private String instruction;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command")
+    private int taskCount;
+
+    /**
+     * Ends the event and commits it if it is being recorded. The Instruction is only looked up in that case.
+     *
+     * @param input The user input of the command
+     * @param taskCount The number of tasks in the list after the command
+     */
+    public void finish(String input, int taskCount) {
+        end();
+        if (shouldCommit()) {
+            Instruction found = Parser.findInstruction(input);
+            this.instruction = found == null ? null : found.name().toLowerCase();
+            this.taskCount = taskCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package duke.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A LatencyHistogram counts latencies in buckets whose width grows with the latency, in the style of HdrHistogram.
+ * Every power of two is split into 32 buckets, so a percentile read from the histogram is within about 3% of the
+ * latency that was recorded. Latencies of more than about a minute fall into the last bucket.
+ * Recording is lock-free and may be done from any number of threads at once.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // The highest power of two that gets buckets of its own, 2^36 ns is about 69 seconds
+    private static final int MAX_MAGNITUDE = 36;
+    // One row of buckets below 32 ns, and one for every power of two from 2^5 to 2^36
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(bucketOf(value));
+        this.count.increment();
+        this.total.add(value);
+        long currentMax = this.max.get();
+        while (value > currentMax && !this.max.compareAndSet(currentMax, value)) {
+            currentMax = this.max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The number of latencies
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return The highest latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return The mean latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long noOfValues = this.count.sum();
+        return noOfValues == 0 ? 0 : (double) this.total.sum() / noOfValues;
+    }
+
+    /**
+     * Returns the latency that the given percentage of recorded latencies are at or below,
+     * rounded up to the end of its bucket.
+     *
+     * @param percentile The percentage, from 0 to 100, such as 99.9
+     * @return The latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        // Count from the buckets themselves, so that the walk below always reaches the rank
+        long[] snapshot = new long[BUCKET_COUNT];
+        long noOfValues = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = this.counts.get(i);
+            noOfValues += snapshot[i];
+        }
+        if (noOfValues == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * noOfValues));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                // The last bucket has no upper end, it takes every latency that is too long for the others
+                return i == BUCKET_COUNT - 1 ? getMax() : Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Finds the bucket of a latency. Latencies below 32 ns have a bucket each. Above that, the bucket is found
+     * from the position of the highest set bit and the five bits below it.
+     *
+     * @param value The latency in nanoseconds, not negative
+     * @return The index of the bucket
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+    }
+
+    /**
+     * Returns the highest latency that falls into the given bucket.
+     *
+     * @param bucket The index of the bucket
+     * @return The latency in nanoseconds
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
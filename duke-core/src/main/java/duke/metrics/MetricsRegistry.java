@@ -0,0 +1,227 @@
+package duke.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import duke.parser.Parser.Instruction;
+
+/**
+ * A MetricsRegistry keeps a LatencyHistogram for every Instruction and for every Phase of handling a command,
+ * and counts the commands that failed and the bytes written to the storage file.
+ *
+ * <p>Metrics are only recorded when the system property {@code duke.metrics} is set to true, for example with
+ * {@code java -Dduke.metrics=true -jar Mr.Bear.jar}. Otherwise callers check {@link #isEnabled()} and skip the
+ * timing altogether, and the shared registry is never created. With {@code -Dduke.metrics.dump=FILE}, the report
+ * is also written to the file every minute, or every {@code duke.metrics.dumpInterval} seconds.
+ */
+public class MetricsRegistry {
+    private static final boolean IS_ENABLED = Boolean.getBoolean("duke.metrics");
+    private static final String DUMP_FILE_PROPERTY = "duke.metrics.dump";
+    private static final long DEFAULT_DUMP_INTERVAL_SECONDS = 60;
+    private static final String HEADER_FORMAT = "%-10s %8s %10s %10s %10s %10s%n";
+    private static final String ROW_FORMAT = "%-10s %8d %10.1f %10.1f %10.1f %10.1f%n";
+
+    /**
+     * The phases of handling a command. Executing includes saving the TaskList and handing the response over,
+     * which are also recorded on their own as persisting and rendering.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST,
+        RENDER
+    }
+
+    private final LatencyHistogram[] instructions = new LatencyHistogram[Instruction.values().length];
+    private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    /**
+     * Creates an empty MetricsRegistry.
+     */
+    public MetricsRegistry() {
+        for (int i = 0; i < this.instructions.length; i++) {
+            this.instructions[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < this.phases.length; i++) {
+            this.phases[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Holds the shared registry, so that it is only created the first time it is used.
+     */
+    private static class Holder {
+        private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+        static {
+            String dumpFile = System.getProperty(DUMP_FILE_PROPERTY);
+            if (IS_ENABLED && dumpFile != null) {
+                long interval = Long.getLong("duke.metrics.dumpInterval", DEFAULT_DUMP_INTERVAL_SECONDS);
+                DEFAULT.startDumping(Paths.get(dumpFile), interval);
+            }
+        }
+    }
+
+    /**
+     * Returns whether metrics are recorded.
+     *
+     * @return true if the system property {@code duke.metrics} is set to true
+     */
+    public static boolean isEnabled() {
+        return IS_ENABLED;
+    }
+
+    /**
+     * Returns the registry shared by the whole application.
+     *
+     * @return The shared registry
+     */
+    public static MetricsRegistry getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Records how long a command of the given Instruction took, from parsing to the end of its response.
+     *
+     * @param instruction The Instruction of the command
+     * @param nanos The latency in nanoseconds
+     */
+    public void recordInstruction(Instruction instruction, long nanos) {
+        this.instructions[instruction.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records how long a phase of handling a command took.
+     *
+     * @param phase The phase
+     * @param nanos The latency in nanoseconds
+     */
+    public void recordPhase(Phase phase, long nanos) {
+        this.phases[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Counts a command that failed, such as an invalid input.
+     */
+    public void recordError() {
+        this.errors.increment();
+    }
+
+    /**
+     * Counts the bytes written to the storage file.
+     *
+     * @param bytes The number of bytes
+     */
+    public void recordBytesWritten(long bytes) {
+        this.bytesWritten.add(bytes);
+    }
+
+    /**
+     * Returns the histogram of the given Instruction.
+     *
+     * @param instruction The Instruction
+     * @return The histogram
+     */
+    public LatencyHistogram getHistogram(Instruction instruction) {
+        return this.instructions[instruction.ordinal()];
+    }
+
+    /**
+     * Returns the histogram of the given Phase.
+     *
+     * @param phase The Phase
+     * @return The histogram
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return this.phases[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of commands that failed.
+     *
+     * @return The number of errors
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Returns the number of bytes written to the storage file.
+     *
+     * @return The number of bytes
+     */
+    public long getBytesWritten() {
+        return this.bytesWritten.sum();
+    }
+
+    /**
+     * Writes the count and the p50, p99, p99.9 and highest latency in microseconds of every Instruction and Phase
+     * that was recorded, followed by the errors and the bytes written.
+     *
+     * @return The report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Latency in microseconds:\n");
+        report.append(String.format(HEADER_FORMAT, "command", "count", "p50", "p99", "p99.9", "max"));
+        for (Instruction instruction : Instruction.values()) {
+            appendRow(report, instruction.name().toLowerCase(), getHistogram(instruction));
+        }
+        report.append(String.format(HEADER_FORMAT, "phase", "count", "p50", "p99", "p99.9", "max"));
+        for (Phase phase : Phase.values()) {
+            appendRow(report, phase.name().toLowerCase(), getHistogram(phase));
+        }
+        report.append("errors: ").append(getErrors()).append(", bytes written: ").append(getBytesWritten());
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String name, LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        if (count == 0) {
+            return;
+        }
+        report.append(String.format(ROW_FORMAT, name, count, toMicros(histogram.getValueAtPercentile(50)),
+                toMicros(histogram.getValueAtPercentile(99)), toMicros(histogram.getValueAtPercentile(99.9)),
+                toMicros(histogram.getMax())));
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * Writes the report to the given file every given number of seconds, on a daemon thread.
+     * Each report replaces the one before it.
+     *
+     * @param file The file to write the report to
+     * @param intervalSeconds The number of seconds between reports
+     * @return The executor that writes the reports, which can be shut down to stop them
+     */
+    public ScheduledExecutorService startDumping(Path file, long intervalSeconds) {
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        return dumper;
+    }
+
+    private void dump(Path file) {
+        try {
+            Files.writeString(file, LocalDateTime.now() + System.lineSeparator() + report()
+                    + System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // A missed report is replaced by the next one, so there is nothing else to do
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an input that the Parser could not turn into a command.
+ */
+@Name("duke.ParseFailure")
+@Label("Parse Failure")
+@Category({"Mr. Bear", "Commands"})
+@Description("Input that could not be parsed into a command")
+@StackTrace(false)
+public class ParseFailureEvent extends Event {
+    // Inputs are cut short, so that a pasted wall of text does not bloat the recording
+    private static final int MAX_INPUT_LENGTH = 200;
+
+    @Label("Input")
+    private String input;
+
+    @Label("Message")
+    private String message;
+
+    /**
+     * Records the failure if parse failures are being recorded.
+     *
+     * @param input The user input
+     * @param message The error message given to the user
+     */
+    public static void emit(String input, String message) {
+        ParseFailureEvent event = new ParseFailureEvent();
+        if (event.shouldCommit()) {
+            event.input = input.length() > MAX_INPUT_LENGTH ? input.substring(0, MAX_INPUT_LENGTH) : input;
+            event.message = message;
+            event.commit();
+        }
+    }
+}
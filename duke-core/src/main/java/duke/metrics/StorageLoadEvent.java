@@ -0,0 +1,48 @@
+package duke.metrics;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one load of the TaskList from the storage file.
+ */
+@Name("duke.StorageLoad")
+@Label("Storage Load")
+@Category({"Mr. Bear", "Storage"})
+@Description("Load of the whole task list from the storage file")
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Records")
+    @Description("Number of tasks read")
+    private int records;
+
+    /**
+     * Ends the event and commits it if it is being recorded. The size of the file is only read in that case.
+     *
+     * @param file The storage file that was read
+     * @param records The number of tasks read
+     */
+    public void finish(File file, int records) {
+        end();
+        if (shouldCommit()) {
+            this.path = file.getPath();
+            this.bytes = file.length();
+            this.records = records;
+            commit();
+        }
+    }
+}
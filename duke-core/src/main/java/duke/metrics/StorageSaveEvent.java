@@ -0,0 +1,48 @@
+package duke.metrics;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one write of the TaskList to the storage file.
+ */
+@Name("duke.StorageSave")
+@Label("Storage Save")
+@Category({"Mr. Bear", "Storage"})
+@Description("Write of the whole task list to the storage file")
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Records")
+    @Description("Number of tasks written")
+    private int records;
+
+    /**
+     * Ends the event and commits it if it is being recorded. The size of the file is only read in that case.
+     *
+     * @param file The storage file that was written
+     * @param records The number of tasks written
+     */
+    public void finish(File file, int records) {
+        end();
+        if (shouldCommit()) {
+            this.path = file.getPath();
+            this.bytes = file.length();
+            this.records = records;
+            commit();
+        }
+    }
+}
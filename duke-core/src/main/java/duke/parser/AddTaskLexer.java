@@ -0,0 +1,139 @@
+package duke.parser;
+
+import duke.exception.InvalidInputException;
+
+/**
+ * A lexer that splits the information of an add-task command into its slots, such as the task name and
+ * the text after "/by", in a single scan from the end of the input to the start.
+ * The last occurrence of a keyword marks its slot, so a keyword may appear in the task name as well.
+ * For events, the "/from" slot is marked by the last "/from" before the last "/to".
+ */
+class AddTaskLexer {
+    /**
+     * The slots of an add-task command, with surrounding whitespace removed.
+     */
+    static class Slots {
+        private final String name;
+        private final String first;
+        private final String second;
+
+        private Slots(String name, String first, String second) {
+            this.name = name;
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * Gets the task name, which is the text before the first keyword.
+         *
+         * @return The task name
+         */
+        String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets the text after the first keyword.
+         *
+         * @return The text after the first keyword
+         */
+        String getFirst() {
+            return this.first;
+        }
+
+        /**
+         * Gets the text after the second keyword, or null if there is only one keyword.
+         *
+         * @return The text after the second keyword
+         */
+        String getSecond() {
+            return this.second;
+        }
+    }
+
+    /**
+     * Splits the information into the task name and the text after the last occurrence of the keyword.
+     *
+     * @param information The information of the command
+     * @param keyword The keyword that starts the slot, such as "/by"
+     * @param formatError The error message to show if the information is not in the correct format
+     * @return The task name and the text after the keyword
+     * @throws InvalidInputException if the keyword is missing or the information has a line break
+     */
+    static Slots split(String information, String keyword, String formatError) throws InvalidInputException {
+        int keywordIndex = -1;
+
+        for (int i = information.length() - 1; i >= 0; i--) {
+            checkNotLineBreak(information, i, formatError);
+            if (keywordIndex < 0 && information.startsWith(keyword, i)) {
+                keywordIndex = i;
+            }
+        }
+
+        if (keywordIndex < 0) {
+            throw new InvalidInputException(formatError + "\n"
+                    + String.format(ErrorMessage.MISSING_KEYWORD_ERROR, keyword, information.length()));
+        }
+        return new Slots(information.substring(0, keywordIndex).trim(),
+                information.substring(keywordIndex + keyword.length()).trim(), null);
+    }
+
+    /**
+     * Splits the information into the task name, the text between the two keywords and the text after
+     * the second keyword.
+     *
+     * @param information The information of the command
+     * @param firstKeyword The keyword that starts the first slot, such as "/from"
+     * @param secondKeyword The keyword that starts the second slot, such as "/to"
+     * @param formatError The error message to show if the information is not in the correct format
+     * @return The task name and the text after each keyword
+     * @throws InvalidInputException if a keyword is missing or the information has a line break
+     */
+    static Slots split(String information, String firstKeyword, String secondKeyword, String formatError)
+            throws InvalidInputException {
+        int firstIndex = -1;
+        int secondIndex = -1;
+
+        for (int i = information.length() - 1; i >= 0; i--) {
+            checkNotLineBreak(information, i, formatError);
+            if (secondIndex < 0) {
+                if (information.startsWith(secondKeyword, i)) {
+                    secondIndex = i;
+                }
+            } else if (firstIndex < 0 && i + firstKeyword.length() <= secondIndex
+                    && information.startsWith(firstKeyword, i)) {
+                firstIndex = i;
+            }
+        }
+
+        if (secondIndex < 0) {
+            throw new InvalidInputException(formatError + "\n"
+                    + String.format(ErrorMessage.MISSING_KEYWORD_ERROR, secondKeyword, information.length()));
+        }
+        if (firstIndex < 0) {
+            throw new InvalidInputException(formatError + "\n"
+                    + String.format(ErrorMessage.MISSING_KEYWORD_BEFORE_ERROR, firstKeyword, secondKeyword,
+                    secondIndex + 1));
+        }
+        return new Slots(information.substring(0, firstIndex).trim(),
+                information.substring(firstIndex + firstKeyword.length(), secondIndex).trim(),
+                information.substring(secondIndex + secondKeyword.length()).trim());
+    }
+
+    /**
+     * Checks that the character at the given index is not a line break, as a command must fit on one line.
+     *
+     * @param information The information of the command
+     * @param index The index of the character to be checked
+     * @param formatError The error message to show if the character is a line break
+     * @throws InvalidInputException if the character is a line break
+     */
+    private static void checkNotLineBreak(String information, int index, String formatError)
+            throws InvalidInputException {
+        char c = information.charAt(index);
+        if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+            throw new InvalidInputException(formatError + "\n"
+                    + String.format(ErrorMessage.UNEXPECTED_LINE_BREAK_ERROR, index + 1));
+        }
+    }
+}
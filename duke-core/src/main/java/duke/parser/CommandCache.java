@@ -0,0 +1,101 @@
+package duke.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import duke.command.Command;
+
+/**
+ * A CommandCache keeps the most recently parsed read-only Commands, so that an input that is given again,
+ * such as "list" or "find standup", is answered with the Command parsed the first time instead of being
+ * parsed again. Only read-only Commands are kept: they do not change once created and can be executed any
+ * number of times, whereas Commands such as an AddTaskCommand carry the task that they add.
+ * The CommandCache is safe to be used from multiple threads.
+ */
+public class CommandCache {
+    private final int capacity;
+    // Keeps the Commands in order of access, from the least recently used to the most recently used
+    private final LinkedHashMap<String, Command> commands;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a CommandCache that keeps at most the given number of Commands.
+     *
+     * @param capacity The maximum number of Commands to be kept
+     */
+    public CommandCache(int capacity) {
+        this.capacity = capacity;
+        this.commands = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                return this.size() > CommandCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the Command parsed from the given input before, and counts the lookup as a hit or a miss.
+     *
+     * @param input The normalised input
+     * @return The Command, or null if it is not in the cache
+     */
+    public synchronized Command get(String input) {
+        Command command = this.commands.get(input);
+        if (command == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return command;
+    }
+
+    /**
+     * Keeps the Command parsed from the given input if the Command is read-only. Other Commands are ignored.
+     *
+     * @param input The normalised input
+     * @param command The Command parsed from the input
+     */
+    public synchronized void put(String input, Command command) {
+        if (command.isReadOnly()) {
+            this.commands.put(input, command);
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a Command.
+     *
+     * @return The number of hits
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a Command.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of Commands that are kept.
+     *
+     * @return The number of Commands in the cache
+     */
+    public synchronized int getSize() {
+        return this.commands.size();
+    }
+
+    /**
+     * Returns the maximum number of Commands that are kept.
+     *
+     * @return The capacity of the cache
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+}
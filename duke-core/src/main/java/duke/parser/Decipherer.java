@@ -2,13 +2,14 @@ package duke.parser;
 
 import java.time.Duration;
 import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 import duke.command.AddTaskCommand;
 import duke.command.DeleteCommand;
 import duke.command.FindCommand;
 import duke.command.HelpCommand;
+import duke.command.ListCommand;
 import duke.command.MarkAsDoneCommand;
 import duke.command.UnmarkCommand;
 import duke.command.UpdateCommand;
@@ -17,6 +18,7 @@ import duke.exception.InvalidInputException;
 import duke.task.DeadlineTask;
 import duke.task.EventTask;
 import duke.task.FixedDurationTask;
+import duke.task.TaskType;
 import duke.task.TodoTask;
 
 /**
@@ -29,6 +31,11 @@ public class Decipherer {
     private static final Pattern emptyStringChecker = Pattern.compile("\\S.*+");
     // Use regular expression to check if the input is a number
     private static final Pattern numberChecker = Pattern.compile("\\d+?");
+    private static final String BY_KEYWORD = "/by";
+    private static final String FROM_KEYWORD = "/from";
+    private static final String TO_KEYWORD = "/to";
+    private static final String WITHIN_KEYWORD = "/within";
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     private static String[] splitString(String information) {
         return information.split(" ", 2);
@@ -154,6 +161,112 @@ public class Decipherer {
         }
     }
 
+    /**
+     * Parses the list command from the user input string. The information may pick a page with
+     * "page N size M" or "from TASK_INDEX size M", and filter the tasks with "--type TYPE" and "--undone",
+     * in any order. Without any information, all the tasks are listed.
+     *
+     * @param information the user input string.
+     * @return the parsed list command.
+     * @throws InvalidInputException if the information is not in a valid format.
+     */
+    public static ListCommand parseListCommand(String information) throws InvalidInputException {
+        if (!emptyStringChecker.matcher(information).matches()) {
+            return new ListCommand();
+        }
+
+        int page = 0;
+        int from = 0;
+        int size = 0;
+        TaskType type = null;
+        boolean isUndoneOnly = false;
+        String[] tokens = information.split("\\s+");
+        for (int i = 0; i < tokens.length; i++) {
+            // every option except --undone is followed by its value
+            boolean hasValue = i + 1 < tokens.length;
+            switch (tokens[i].toLowerCase(Locale.ROOT)) {
+            case "page":
+                page = hasValue ? parsePositiveNumber(tokens[++i]) : 0;
+                break;
+            case "from":
+                from = hasValue ? parsePositiveNumber(tokens[++i]) : 0;
+                break;
+            case "size":
+                size = hasValue ? parsePositiveNumber(tokens[++i]) : 0;
+                break;
+            case "--type":
+                type = hasValue ? parseTaskType(tokens[++i]) : null;
+                break;
+            case "--undone":
+                isUndoneOnly = true;
+                continue;
+            default:
+                throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+            }
+            if (!hasValue) {
+                throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+            }
+        }
+        if (page > 0 && from > 0) {
+            // a page can either be counted from the start or from a task, not both
+            throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+        }
+
+        boolean isPaged = page > 0 || from > 0 || size > 0;
+        int pageSize = size > 0 ? size : isPaged ? DEFAULT_PAGE_SIZE : ListCommand.ALL_TASKS;
+        long skippedMatches = page > 0 ? (long) (page - 1) * pageSize : 0;
+        if (skippedMatches > Integer.MAX_VALUE) {
+            throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+        }
+        int fromIndex = from > 0 ? from - 1 : 0;
+        return new ListCommand(fromIndex, (int) skippedMatches, pageSize, type, isUndoneOnly);
+    }
+
+    /**
+     * Parses a positive number in a list command.
+     *
+     * @param token the token to be parsed.
+     * @return the number.
+     * @throws InvalidInputException if the token is not a positive number.
+     */
+    private static int parsePositiveNumber(String token) throws InvalidInputException {
+        if (!numberChecker.matcher(token).matches()) {
+            throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+        }
+        try {
+            int number = Integer.parseInt(token);
+            if (number <= 0) {
+                throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            // the number is too large
+            throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+        }
+    }
+
+    /**
+     * Parses the type of task in a list command.
+     *
+     * @param token the token to be parsed, such as "deadline" or "fixed".
+     * @return the type of task.
+     * @throws InvalidInputException if the token is not a type of task.
+     */
+    private static TaskType parseTaskType(String token) throws InvalidInputException {
+        switch (token.toLowerCase(Locale.ROOT)) {
+        case "todo":
+            return TaskType.TODO;
+        case "deadline":
+            return TaskType.DEADLINE;
+        case "event":
+            return TaskType.EVENT;
+        case "fixed":
+            return TaskType.FIXED_DURATION;
+        default:
+            throw new InvalidInputException(ErrorMessage.INVALID_LIST_COMMAND_ERROR);
+        }
+    }
+
     /**
      * Parses the help command from the user input string.
      *
@@ -224,41 +337,22 @@ public class Decipherer {
             throw new InvalidInputException(ErrorMessage.EMPTY_DEADLINE_ERROR);
         }
 
-        // Extract the name and deadline date from the input string
-        Matcher dateChecker = extractNameAndDate(information);
-
-        // If the input string is in the correct format
-        if (dateChecker.matches()) {
-            // Create an `AddTaskCommand` for a deadline task
-            return createDeadlineTaskCommand(dateChecker);
-        } else {
-            // If the input string is in an incorrect format, throw an exception
-            throw new InvalidInputException(ErrorMessage.INVALID_DEADLINE_FORMAT_ERROR);
-        }
-    }
-
-    /**
-     * Extracts the name and deadline date from the input string.
-     *
-     * @param information input string
-     * @return a Matcher object that matches the extracted name and deadline date
-     */
-    private static Matcher extractNameAndDate(String information) {
-        // Use regular expression to extract the name and deadline date
-        return Pattern.compile("(?<name>.*)/by\\s*(?<date>.*)").matcher(information);
+        // Split the input string into the name and the deadline date
+        AddTaskLexer.Slots slots = AddTaskLexer.split(information, BY_KEYWORD,
+                ErrorMessage.INVALID_DEADLINE_FORMAT_ERROR);
+        // Create an `AddTaskCommand` for a deadline task
+        return createDeadlineTaskCommand(slots.getName(), slots.getFirst());
     }
 
     /**
      * Creates an {@link AddTaskCommand} with a {@link DeadlineTask} based on the extracted name and date.
      *
-     * @param dateChecker The {@link Matcher} object containing the extracted information from the input string.
+     * @param name The name of the task.
+     * @param date The deadline date of the task.
      * @return An {@link AddTaskCommand} containing the created {@link DeadlineTask}.
      * @throws InvalidInputException if the date format is incorrect.
      */
-    private static AddTaskCommand createDeadlineTaskCommand(Matcher dateChecker) throws InvalidInputException {
-        // Extract the name and date from the Matcher object
-        String name = dateChecker.group("name").trim();
-        String date = dateChecker.group("date").trim();
+    private static AddTaskCommand createDeadlineTaskCommand(String name, String date) throws InvalidInputException {
         try {
             // Create a new DeadlineTask and return an AddTaskCommand with it
             return new AddTaskCommand(new DeadlineTask(name, TimeHandler.parseToLocalDateTime(date)));
@@ -281,42 +375,23 @@ public class Decipherer {
             throw new InvalidInputException(ErrorMessage.EMPTY_EVENT_ERROR);
         }
 
-        // Extract the task name and time interval
-        Matcher intervalChecker = extractNameAndInterval(information);
-
-        // If the task name and time interval are extracted successfully, create a new event task command
-        if (intervalChecker.matches()) {
-            return createEventTaskCommand(intervalChecker);
-        } else {
-            // Otherwise, throw an exception for invalid format
-            throw new InvalidInputException(ErrorMessage.INVALID_EVENT_FORMAT_ERROR);
-        }
-    }
-
-    /**
-     * Extracts the name and interval from the information string using a regular expression pattern.
-     *
-     * @param information The information string to be processed.
-     * @return A Matcher object that matches the information string to the pattern.
-     */
-    private static Matcher extractNameAndInterval(String information) {
-        // Extract the task name and interval using the pattern "(?<name>.*)/from(?<from>.*)/to(?<to>.*)"
-        return Pattern.compile("(?<name>.*)/from(?<from>.*)/to(?<to>.*)").matcher(information);
+        // Split the input string into the task name and time interval
+        AddTaskLexer.Slots slots = AddTaskLexer.split(information, FROM_KEYWORD, TO_KEYWORD,
+                ErrorMessage.INVALID_EVENT_FORMAT_ERROR);
+        return createEventTaskCommand(slots.getName(), slots.getFirst(), slots.getSecond());
     }
 
     /**
      * Creates an {@code AddTaskCommand} that adds an event task.
      *
-     * @param intervalChecker the regex matcher that matches the name and interval of the task
+     * @param name the name of the task
+     * @param from the starting date and time of the task
+     * @param to the ending date and time of the task
      * @return the created {@code AddTaskCommand}
      * @throws InvalidInputException if the date and time specified in the interval are invalid
      */
-    private static AddTaskCommand createEventTaskCommand(Matcher intervalChecker) throws InvalidInputException {
-        // Extract the name and interval of the task from the matcher
-        String name = intervalChecker.group("name").trim();
-        String from = intervalChecker.group("from").trim();
-        String to = intervalChecker.group("to").trim();
-
+    private static AddTaskCommand createEventTaskCommand(String name, String from, String to)
+            throws InvalidInputException {
         try {
             // Create a new event task with the extracted information and return the corresponding AddTaskCommand
             return new AddTaskCommand(new EventTask(name,
@@ -341,35 +416,22 @@ public class Decipherer {
             throw new InvalidInputException(ErrorMessage.EMPTY_FIXED_DURATION_DESCRIPTION_ERROR);
         }
 
-        // extract the task name and duration from the input string
-        Matcher durationChecker = extractNameAndDuration(information);
-        if (durationChecker.matches()) {
-            return createFixedDurationTaskCommand(durationChecker);
-        } else {
-            throw new InvalidInputException(ErrorMessage.INVALID_FIXED_DURATION_FORMAT_ERROR);
-        }
-    }
-
-    /**
-     * Extract the name and duration of a fixed duration task from the input information string.
-     *
-     * @param information - the input information string that contains the task name and duration
-     * @return a Matcher object that can be used to extract the name and duration of the task
-     */
-    private static Matcher extractNameAndDuration(String information) {
-        return Pattern.compile("(?<name>.*)/within\\s*(?<duration>.*)").matcher(information);
+        // split the input string into the task name and duration
+        AddTaskLexer.Slots slots = AddTaskLexer.split(information, WITHIN_KEYWORD,
+                ErrorMessage.INVALID_FIXED_DURATION_FORMAT_ERROR);
+        return createFixedDurationTaskCommand(slots.getName(), slots.getFirst());
     }
 
     /**
      * Creates a new {@link AddTaskCommand} containing a {@link FixedDurationTask} based on the parsed information.
      *
-     * @param durationChecker a {@link Matcher} that matches the name and duration of the task
+     * @param name the name of the task
+     * @param duration the duration of the task
      * @return a new {@link AddTaskCommand} containing a {@link FixedDurationTask}
      * @throws InvalidInputException if there is an error with the format of the input information
      */
-    private static AddTaskCommand createFixedDurationTaskCommand(Matcher durationChecker) throws InvalidInputException {
-        String name = durationChecker.group("name").trim(); // Retrieve the name of the task
-        String duration = durationChecker.group("duration").trim(); // Retrieve the duration of the task
+    private static AddTaskCommand createFixedDurationTaskCommand(String name, String duration)
+            throws InvalidInputException {
         try {
             return new AddTaskCommand(new FixedDurationTask(name, Duration.parse(duration)));
         } catch (DateTimeParseException e) {
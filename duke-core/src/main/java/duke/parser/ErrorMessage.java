@@ -11,6 +11,9 @@ public class ErrorMessage {
     public static final String EMPTY_FIXED_DURATION_DESCRIPTION_ERROR = "OOPS!!! The description of "
             + "a fixed duration task cannot be empty.";
     public static final String INVALID_DESCRIPTION_ERROR = "OOPS!!! The description cannot be empty.";
+    public static final String INVALID_LIST_COMMAND_ERROR = "OOPS!!! Unrecognized list Command.\nPlease try:\n"
+            + "- list\n- list page <Page> size <Size>\n- list from <TaskIndex> size <Size>\n"
+            + "- list --type todo|deadline|event|fixed\n- list --undone";
     public static final String INVALID_HELP_COMMAND_ERROR = "OOPS!!! Unrecognized help Command.\nPlease try:\n"
             + "- help\n- help date\n- help time\n- help duration";
 
@@ -34,6 +37,11 @@ public class ErrorMessage {
     public static final String INVALID_FIXED_DURATION_FORMAT_ERROR = "OOPS!!! Please input the fixed duration "
             + "task in the correct format. Example: fixed Time Practice /within PT15M";
     public static final String INVALID_FROM_AND_TO_ERROR = "OOPS!!! Start date can not be after than the End date";
+    public static final String MISSING_KEYWORD_ERROR = "\"%s\" was not found in the description "
+            + "(checked all %d characters).";
+    public static final String MISSING_KEYWORD_BEFORE_ERROR = "\"%s\" was not found before the \"%s\" "
+            + "at character %d of the description.";
+    public static final String UNEXPECTED_LINE_BREAK_ERROR = "The description has a line break at character %d.";
 
     // Storage errors
     public static final String INVALID_TYPE_ERROR = "Type tag of event should be [T], [D], or [E]";
@@ -44,6 +52,8 @@ public class ErrorMessage {
     public static final String EMPTY_ERROR = "OOPS!!! The instruction cannot be empty";
     public static final String STORAGE_ERROR = "OOPS!!! There's something wrong when reading the storage list";
     public static final String TASK_LIST_EMPTY_ERROR = "OOPS!!! Your task list is currently empty";
+    public static final String INVALID_WORKSPACE_ERROR = "OOPS!!! A workspace name can only contain letters, "
+            + "digits, \"-\" and \"_\", and must be at most 64 characters long.";
     public static final String UNRECOGNIZED_ERROR = "OOPS!!! I'm sorry, but I don't know what that means :-(\n "
             + "Please type in \"help\" to check all available commands.";
 }
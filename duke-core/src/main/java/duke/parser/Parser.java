@@ -0,0 +1,213 @@
+package duke.parser;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import duke.command.Command;
+import duke.command.ExitCommand;
+import duke.command.FindFreeTimeCommand;
+import duke.command.MassDeleteCommand;
+import duke.command.ReminderCommand;
+import duke.command.SortCommand;
+import duke.command.StatsCommand;
+import duke.exception.DukeException;
+import duke.exception.InvalidInputException;
+import duke.metrics.ParseFailureEvent;
+
+/**
+* A parser that parse the input String into a Duke Instruction with respective information encapsulated.
+*/
+public class Parser {
+    // Maps the lower case tag of every Instruction to the Instruction, built once when the class is loaded
+    private static final Map<String, Instruction> INSTRUCTION_TABLE = createInstructionTable();
+    private static final int COMMAND_CACHE_CAPACITY = 256;
+    // Keeps the read-only Commands parsed from the most recently used inputs
+    private static final CommandCache COMMAND_CACHE = new CommandCache(COMMAND_CACHE_CAPACITY);
+
+    /**
+     * A factory that creates a Command from the information that follows the instruction tag.
+     */
+    @FunctionalInterface
+    private interface CommandFactory {
+        Command create(String information) throws InvalidInputException;
+    }
+
+    /**
+     * An Instruction enum that encapsulates all types of Instruction, each with the factory
+     * that creates its Command and whether that Command is read-only.
+     */
+    public enum Instruction {
+        BYE(information -> new ExitCommand(), true),
+        LIST(Decipherer::parseListCommand, true),
+        REMINDER(information -> new ReminderCommand(), true),
+        HELP(Decipherer::parseHelpCommand, true),
+        MASSDELETE(information -> new MassDeleteCommand(), false),
+        MARK(Decipherer::parseMarkCommand, false),
+        UNMARK(Decipherer::parseUnmarkCommand, false),
+        DELETE(Decipherer::parseDeleteCommand, false),
+        TODO(Decipherer::parseTodoCommand, false),
+        DEADLINE(Decipherer::parseDeadlineCommand, false),
+        EVENT(Decipherer::parseEventCommand, false),
+        FIND(Decipherer::parseFindCommand, true),
+        VIEW(Decipherer::parseViewCommand, true),
+        UPDATE(Decipherer::parseUpdateCommand, false),
+        FREE(information -> new FindFreeTimeCommand(), true),
+        FIXED(Decipherer::parseFixedDurationCommand, false),
+        SORT(information -> new SortCommand(), false),
+        STATS(information -> new StatsCommand(COMMAND_CACHE), true);
+
+        private final CommandFactory factory;
+        private final boolean isReadOnly;
+
+        Instruction(CommandFactory factory, boolean isReadOnly) {
+            this.factory = factory;
+            this.isReadOnly = isReadOnly;
+        }
+
+        /**
+         * Indicates whether the Commands of this Instruction are read-only, as given by {@link Command#isReadOnly()}.
+         * Unlike parsing the input, this tells the kind of an input apart without recording anything.
+         *
+         * @return whether the Commands of this Instruction are read-only.
+         */
+        public boolean isReadOnly() {
+            return this.isReadOnly;
+        }
+
+        /**
+         * Creates the Command of this Instruction with the given information.
+         *
+         * @param information The information needed by the command to execute the instruction.
+         * @return A command that can execute the instruction with the given information.
+         * @throws InvalidInputException If the information is invalid.
+         */
+        private Command createCommand(String information) throws InvalidInputException {
+            return this.factory.create(information);
+        }
+    }
+
+    /**
+     * A parse method that takes in a String representation of a Command, splits it into the instruction tag
+     * and the information, and constructs the Command of the matching Instruction.
+     * Read-only Commands are reused for inputs that only differ in the case of the tag and in whitespace
+     * around the tag.
+     *
+     * @param input The given String of Command to be parsed by the parser
+     * @return The actual Command objected represented by the given input String
+     * @throws DukeException Throws exception when invalid input is given
+     */
+    public static Command parse(String input) throws DukeException {
+        try {
+            return parseInput(input);
+        } catch (DukeException e) {
+            // Let Flight Recorder see which inputs users get wrong
+            ParseFailureEvent.emit(input, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Parses the given input into a Command, as described in {@link #parse(String)}.
+     *
+     * @param input The given String of Command to be parsed by the parser
+     * @return The actual Command objected represented by the given input String
+     * @throws DukeException Throws exception when invalid input is given
+     */
+    private static Command parseInput(String input) throws DukeException {
+        String trimmedInput = input.trim();
+        // Check if the input is empty
+        if (trimmedInput.isEmpty()) {
+            throw new InvalidInputException(ErrorMessage.EMPTY_ERROR);
+        }
+
+        // The instruction tag is everything up to the first whitespace, the information is the rest
+        int tagEnd = findTagEnd(trimmedInput);
+        String instructionTag = trimmedInput.substring(0, tagEnd);
+        String information = trimmedInput.substring(tagEnd).trim();
+
+        Instruction instruction = matchInstructionTag(instructionTag);
+        if (!instruction.isReadOnly()) {
+            // Only read-only Commands are cached, so looking up any other would only count a miss
+            return instruction.createCommand(information);
+        }
+
+        // Reuse the Command if the same input was parsed into a read-only Command recently
+        String normalisedInput = information.isEmpty()
+                ? instruction.name()
+                : instruction.name() + " " + information;
+        Command command = COMMAND_CACHE.get(normalisedInput);
+        if (command == null) {
+            command = instruction.createCommand(information);
+            COMMAND_CACHE.put(normalisedInput, command);
+        }
+        return command;
+    }
+
+    /**
+     * Returns the cache of the read-only Commands parsed from the most recently used inputs.
+     *
+     * @return The CommandCache shared by every parse
+     */
+    static CommandCache getCommandCache() {
+        return COMMAND_CACHE;
+    }
+
+    /**
+     * Finds the Instruction that the given input starts with, without parsing the rest of the input.
+     *
+     * @param input The user input
+     * @return The Instruction, or null if the input does not start with a known instruction tag
+     */
+    public static Instruction findInstruction(String input) {
+        String trimmedInput = input.trim();
+        String instructionTag = trimmedInput.substring(0, findTagEnd(trimmedInput));
+        return INSTRUCTION_TABLE.get(instructionTag.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds the end of the instruction tag, which is the index of the first whitespace in the input,
+     * or the length of the input if it has no whitespace.
+     *
+     * @param input The trimmed input to be parsed.
+     * @return The index right after the last character of the instruction tag.
+     */
+    private static int findTagEnd(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return input.length();
+    }
+
+    /**
+     * Matches the instruction tag with the corresponding instruction enum, ignoring case.
+     *
+     * @param instructionTag The instruction tag to be matched.
+     * @return The instruction enum that matches the instruction tag.
+     * @throws InvalidInputException If the instruction tag is not recognized.
+     */
+    private static Instruction matchInstructionTag(String instructionTag) throws InvalidInputException {
+        // toLowerCase returns the same String when it is already in lower case, which is the usual case
+        Instruction instruction = INSTRUCTION_TABLE.get(instructionTag.toLowerCase(Locale.ROOT));
+        if (instruction == null) {
+            //the instruction tag does not match any of the enum values
+            throw new InvalidInputException(ErrorMessage.UNRECOGNIZED_ERROR);
+        }
+        return instruction;
+    }
+
+    /**
+     * Creates the table that maps the lower case tag of every Instruction to the Instruction.
+     *
+     * @return The table of Instructions
+     */
+    private static Map<String, Instruction> createInstructionTable() {
+        Map<String, Instruction> table = new HashMap<>();
+        for (Instruction instruction : Instruction.values()) {
+            table.put(instruction.name().toLowerCase(Locale.ROOT), instruction);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,388 @@
+package duke.parser;
+
+import java.text.ParsePosition;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+
+import duke.exception.InvalidInputException;
+
+/**
+ * A TimeHandler class that encapsulates all the methods that related to handling the time related string.
+ */
+public class TimeHandler {
+    //@@author Yufannn-reused
+    //Reused from https://github.com/RussellDash332/ip/blob/master/src/main/java/stashy/parser/Parser.java
+    //with minor modification, it is a pretty good way to organise and extend the acceptable date format.
+    private static final String[] ACCEPTABLE_DATETIME_FORMATS = {
+        "MMM dd yyyy HHmm", "MMM dd yyyy HH:mm",
+        "yyyy-MM-dd'T'HH:mm", "dd/MM/yyyy HHmm",
+        "dd/MM/yyyy HH:mm", "yyyy/MM/dd HHmm",
+        "yyyy/MM/dd HH:mm", "yyyy/MM/dd'T'HHmm",
+        "yyyy/MM/dd'T'HH:mm", "yyyy-MM-dd HHmm",
+        "yyyy-MM-dd HH:mm", "dd MMM yyyy HHmm",
+        "dd MMM yyyy HH:mm", "MMM dd, yyyy HHmm",
+        "MMM dd, yyyy HH:mm", "dd-mm-yyyy HHmm"
+    };
+    //@@author
+
+    private static final String[] ACCEPTABLE_DATE_FORMATS = {
+        "MMM dd yyyy", "yyyy-MM-dd", "dd/MM/yyyy", "yyyy/MM/dd",
+        "dd MMM yyyy", "MMM dd, yyyy", "dd-mm-yyyy"
+    };
+
+    // Features of the shape of a date string, see shapeOf(String)
+    private static final int STARTS_WITH_LETTER = 1;
+    private static final int STARTS_WITH_YEAR = 1 << 1;
+    private static final int HAS_SLASH = 1 << 2;
+    private static final int HAS_DASH = 1 << 3;
+    private static final int HAS_COMMA = 1 << 4;
+    private static final int HAS_COLON = 1 << 5;
+    private static final int HAS_TIME_SEPARATOR = 1 << 6;
+    private static final int YEAR_DIGITS = 4;
+    // Any date and time will do, as long as every field has its full width when formatted
+    private static final LocalDateTime SAMPLE_DATETIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    // The layouts of dates in the storage file
+    private static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final int STORAGE_LAYOUT_LENGTH = "yyyy-MM-ddTHH:mm".length();
+    private static final int LEGACY_STORAGE_LAYOUT_LENGTH = "MMM dd yyyy HH:mm".length();
+    private static final int MAX_FOUR_DIGIT_YEAR = 9999;
+    private static final String[] MONTH_ABBREVIATIONS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    private static final DateFormat[] DATETIME_FORMATS = compile(ACCEPTABLE_DATETIME_FORMATS);
+    private static final DateFormat[] DATE_FORMATS = compile(ACCEPTABLE_DATE_FORMATS);
+    // The format that last parsed a string on this thread, which is tried first for strings of the same shape
+    private static final ThreadLocal<DateFormat> lastDateTimeFormat = new ThreadLocal<>();
+    private static final ThreadLocal<DateFormat> lastDateFormat = new ThreadLocal<>();
+
+    /**
+     * An acceptable format, compiled once, together with the shape of the strings that it accepts.
+     */
+    private static class DateFormat {
+        private final DateTimeFormatter formatter;
+        private final int shape;
+
+        private DateFormat(String pattern) {
+            this.formatter = DateTimeFormatter.ofPattern(pattern);
+            this.shape = shapeOf(this.formatter.format(SAMPLE_DATETIME));
+        }
+    }
+
+    //@@author Yufannnn-reused
+    //Reused from https://github.com/wweqg/ip/blob/master/src/main/java/duke/parser/Parser.java
+    //with minor modification, it is a pretty clean and concise regular expression for general instructions
+    /**
+     * This method is used to parse a date string to {@link LocalDate}
+     * Only the acceptable date formats {@link #ACCEPTABLE_DATE_FORMATS} that have the same shape as the date
+     * string are tried, starting with the format that last succeeded on this thread.
+     * If the parsing is successful, it will return the parsed {@link LocalDate}
+     * If the parsing fails for all the acceptable date formats, the method will throw a {@link InvalidInputException}
+     *
+     * @param date the date string to be parsed
+     * @return the parsed {@link LocalDate}
+     * @throws InvalidInputException when the date string is not in any of the acceptable date formats
+     *
+     */
+    public static LocalDate parseToLocalDate(String date) throws InvalidInputException {
+        LocalDate result = parse(date, DATE_FORMATS, lastDateFormat, LocalDate::from);
+        if (result == null) {
+            throw new InvalidInputException(ErrorMessage.INVALID_DATE_ERROR);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a string to a LocalDateTime object using the acceptable date time formats defined
+     * in {@link #ACCEPTABLE_DATETIME_FORMATS}.
+     *
+     * @param date The date string to be parsed
+     * @return The parsed LocalDateTime object
+     * @throws InvalidInputException if the date string does not match any of the acceptable date time formats
+     */
+    public static LocalDateTime parseToLocalDateTime(String date) throws InvalidInputException {
+        LocalDateTime result = parse(date, DATETIME_FORMATS, lastDateTimeFormat, LocalDateTime::from);
+        if (result == null) {
+            throw new InvalidInputException(ErrorMessage.INVALID_DATETIME_ERROR);
+        }
+        return result;
+    }
+    //@@author
+
+    /**
+     * Parses a date and time read from the storage file. Dates are stored as "yyyy-MM-dd'T'HH:mm", and files
+     * written by older versions may have deadlines stored as "MMM dd yyyy HH:mm"; both layouts are decoded
+     * character by character without a {@link DateTimeFormatter}. Anything else, such as a date that is out of
+     * range, goes through {@link #parseToLocalDateTime(String)} so that it is resolved exactly as before.
+     *
+     * @param date The stored date and time
+     * @return The parsed LocalDateTime object
+     * @throws InvalidInputException if the stored date and time is not in any of the acceptable formats
+     */
+    public static LocalDateTime parseStorageDateTime(String date) throws InvalidInputException {
+        LocalDateTime result = date.length() == STORAGE_LAYOUT_LENGTH
+                ? parseStorageLayout(date)
+                : date.length() == LEGACY_STORAGE_LAYOUT_LENGTH
+                ? parseLegacyStorageLayout(date)
+                : null;
+        return result != null ? result : parseToLocalDateTime(date);
+    }
+
+    /**
+     * Formats a date and time the way it is written to the storage file, as "yyyy-MM-dd'T'HH:mm".
+     *
+     * @param dateTime The date and time to be formatted
+     * @return The formatted date and time
+     */
+    public static String formatStorageDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > MAX_FOUR_DIGIT_YEAR) {
+            return dateTime.format(STORAGE_FORMATTER);
+        }
+
+        char[] chars = {'0', '0', '0', '0', '-', '0', '0', '-', '0', '0', 'T', '0', '0', ':', '0', '0'};
+        writeDigits(chars, 0, year, 4);
+        writeDigits(chars, 5, dateTime.getMonthValue(), 2);
+        writeDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        writeDigits(chars, 14, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Decodes a date and time in the layout "yyyy-MM-dd'T'HH:mm".
+     *
+     * @param date The date and time to be decoded, which has the length of the layout
+     * @return The decoded date and time, or null if the date does not fit the layout or is out of range
+     */
+    private static LocalDateTime parseStorageLayout(String date) {
+        if (date.charAt(4) != '-' || date.charAt(7) != '-' || date.charAt(10) != 'T' || date.charAt(13) != ':') {
+            return null;
+        }
+        return toLocalDateTime(readDigits(date, 0, 4), readDigits(date, 5, 2), readDigits(date, 8, 2),
+                readDigits(date, 11, 2), readDigits(date, 14, 2));
+    }
+
+    /**
+     * Decodes a date and time in the layout "MMM dd yyyy HH:mm" with an English month abbreviation.
+     *
+     * @param date The date and time to be decoded, which has the length of the layout
+     * @return The decoded date and time, or null if the date does not fit the layout or is out of range
+     */
+    private static LocalDateTime parseLegacyStorageLayout(String date) {
+        if (date.charAt(3) != ' ' || date.charAt(6) != ' ' || date.charAt(11) != ' ' || date.charAt(14) != ':') {
+            return null;
+        }
+        int month = -1;
+        for (int i = 0; i < MONTH_ABBREVIATIONS.length; i++) {
+            if (date.startsWith(MONTH_ABBREVIATIONS[i])) {
+                month = i + 1;
+                break;
+            }
+        }
+        return toLocalDateTime(readDigits(date, 7, 4), month, readDigits(date, 4, 2),
+                readDigits(date, 12, 2), readDigits(date, 15, 2));
+    }
+
+    /**
+     * Creates a LocalDateTime from its fields after checking that every field is in range, so that no
+     * exception is thrown.
+     *
+     * @param year The year
+     * @param month The month, from 1 to 12
+     * @param day The day of the month
+     * @param hour The hour of the day
+     * @param minute The minute of the hour
+     * @return The date and time, or null if any field is missing or out of range
+     */
+    private static LocalDateTime toLocalDateTime(int year, int month, int day, int hour, int minute) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Reads a number made up of the given number of digits.
+     *
+     * @param text The text to read from
+     * @param start The index of the first digit
+     * @param length The number of digits
+     * @return The number, or -1 if any of the characters is not a digit
+     */
+    private static int readDigits(String text, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Writes a number as the given number of digits, padded with zeros on the left.
+     *
+     * @param chars The characters to write into
+     * @param start The index of the first digit
+     * @param value The number, which must fit in the given number of digits
+     * @param length The number of digits
+     */
+    private static void writeDigits(char[] chars, int start, int value, int length) {
+        for (int i = start + length - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Parses the text with the first of the given formats that accepts it. Formats whose shape differs from
+     * the shape of the text are skipped without being tried, and the format that last succeeded on this
+     * thread is tried before the others.
+     *
+     * @param text The text to be parsed
+     * @param formats The acceptable formats, in order of preference
+     * @param lastFormat The format that last succeeded on this thread
+     * @param query The query that turns the parsed fields into the result
+     * @param <T> The type of the result
+     * @return The result, or null if none of the formats accepts the text
+     */
+    private static <T> T parse(String text, DateFormat[] formats, ThreadLocal<DateFormat> lastFormat,
+            TemporalQuery<T> query) {
+        int shape = shapeOf(text);
+
+        // A string is accepted by at most one format of its shape, so trying the last format first is safe
+        DateFormat last = lastFormat.get();
+        if (last != null && last.shape == shape) {
+            T result = tryParse(text, last, query);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        for (DateFormat format : formats) {
+            if (format.shape != shape || format == last) {
+                continue;
+            }
+            T result = tryParse(text, format, query);
+            if (result != null) {
+                lastFormat.set(format);
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the text with the given format. The text is first checked against the format without
+     * resolving the fields, which does not throw, so an exception is only thrown and caught for text
+     * that has the right layout but an invalid value, such as month 13.
+     *
+     * @param text The text to be parsed
+     * @param format The format to parse the text with
+     * @param query The query that turns the parsed fields into the result
+     * @param <T> The type of the result
+     * @return The result, or null if the format does not accept the text
+     */
+    private static <T> T tryParse(String text, DateFormat format, TemporalQuery<T> query) {
+        ParsePosition position = new ParsePosition(0);
+        if (format.formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length()) {
+            return null;
+        }
+        try {
+            return format.formatter.parse(text, query);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the shape of a date string as a set of features: whether it starts with a letter or with a year,
+     * and which separators it contains. A string can only be accepted by formats of the same shape.
+     *
+     * @param text The date string
+     * @return The features of the date string, one bit each
+     */
+    private static int shapeOf(String text) {
+        int shape = 0;
+        int leadingDigits = 0;
+        while (leadingDigits < text.length() && Character.isDigit(text.charAt(leadingDigits))) {
+            leadingDigits++;
+        }
+        if (!text.isEmpty() && Character.isLetter(text.charAt(0))) {
+            shape |= STARTS_WITH_LETTER;
+        }
+        if (leadingDigits >= YEAR_DIGITS) {
+            shape |= STARTS_WITH_YEAR;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+            case '/':
+                shape |= HAS_SLASH;
+                break;
+            case '-':
+                shape |= HAS_DASH;
+                break;
+            case ',':
+                shape |= HAS_COMMA;
+                break;
+            case ':':
+                shape |= HAS_COLON;
+                break;
+            case 'T':
+                // Only a "T" right after a digit separates the date from the time, as in 2023-01-16T18:00
+                if (i > 0 && Character.isDigit(text.charAt(i - 1))) {
+                    shape |= HAS_TIME_SEPARATOR;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Compiles the given patterns into formats.
+     *
+     * @param patterns The patterns to be compiled
+     * @return The compiled formats, in the same order
+     */
+    private static DateFormat[] compile(String[] patterns) {
+        DateFormat[] formats = new DateFormat[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            formats[i] = new DateFormat(patterns[i]);
+        }
+        return formats;
+    }
+
+    //@@author Yufannnn-reused
+    //Reused from https://stackoverflow.com/questions/3471397/how-can-i-pretty-print-a-duration-in-java
+    //with minor modification, a nice way to print out duration in a human-readable way
+    /**
+     * Returns the human-readable format of a given duration.
+     *
+     * @param duration the duration to be converted to human-readable format
+     * @return the human-readable format of the duration
+     */
+    public static String humanReadableFormat(Duration duration) {
+        return duration.toString()
+                .substring(2)
+                .replaceAll("(\\d[HMS])(?!$)", "$1 ")
+                .toLowerCase();
+    }
+    //@@author
+}
@@ -42,13 +42,14 @@ public class Decoder {
      * @param list the TaskList to add the DeadlineTask to
      * @param description the description of the DeadlineTask
      * @param isDone whether the DeadlineTask is done or not
-     * @param date the deadline date of the task as a string in the format "yyyy-MM-dd"
+     * @param date the deadline date of the task as a string in the format "yyyy-MM-dd'T'HH:mm"
+     * @throws InvalidInputException if the input is invalid
      */
     public static void decodeDeadline(TaskList list, String description, boolean isDone, String date)
             throws InvalidInputException {
         // Create a new DeadlineTask with the given description and deadline date
         DeadlineTask deadline = new DeadlineTask(description.trim(),
-                TimeHandler.parseToLocalDateTime(date));
+                TimeHandler.parseStorageDateTime(date));
 
         // If the DeadlineTask is done, mark it as done
         if (isDone) {
@@ -65,15 +66,15 @@ public class Decoder {
      * @param list the TaskList to add the EventTask to
      * @param description the description of the EventTask
      * @param isDone whether the EventTask is done or not
-     * @param from the start date of the event as a string in the format "yyyy-MM-dd"
-     * @param to the end date of the event as a string in the format "yyyy-MM-dd"
+     * @param from the start date of the event as a string in the format "yyyy-MM-dd'T'HH:mm"
+     * @param to the end date of the event as a string in the format "yyyy-MM-dd'T'HH:mm"
      * @throws InvalidInputException if the input is invalid
      */
     public static void decodeEvent(TaskList list, String description, boolean isDone, String from, String to)
             throws InvalidInputException {
         // Create a new EventTask with the given description and event dates
-        EventTask event = new EventTask(description.strip(), TimeHandler.parseToLocalDateTime(from),
-                TimeHandler.parseToLocalDateTime(to));
+        EventTask event = new EventTask(description.strip(), TimeHandler.parseStorageDateTime(from),
+                TimeHandler.parseStorageDateTime(to));
 
         // If the EventTask is done, mark it as done
         if (isDone) {
@@ -13,9 +13,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.function.DoubleConsumer;
 
 import duke.exception.InvalidInputException;
 import duke.exception.StorageFileException;
+import duke.metrics.MetricsRegistry;
+import duke.metrics.MetricsRegistry.Phase;
+import duke.metrics.StorageLoadEvent;
+import duke.metrics.StorageSaveEvent;
 import duke.parser.ErrorMessage;
 import duke.task.DukeTask;
 import duke.task.TaskList;
@@ -35,9 +40,13 @@ public class Storage {
     private static final String FIXED_DURATION_TAG = "[F]";
     private static final String IS_DONE_TAG = "[X]";
     private static final String NOT_DONE_TAG = "[ ]";
+    // Report progress about a hundred times while loading, however long the file is
+    private static final int PROGRESS_STEPS = 100;
     private final String filePath;
     private final Path folder;
     private final File storageFile;
+    private boolean isDeferred = false;
+    private TaskList pendingTaskList = null;
 
     /**
      * Constructor of that takes a path of the file and specify the file for
@@ -72,20 +81,43 @@ public class Storage {
      * @throws StorageFileException Thrown when encountering IOException when reading the file
      */
     public TaskList load() throws InvalidInputException, StorageFileException {
+        return load(progress -> { });
+    }
+
+    /**
+     * Loads the TaskList from the given data file, reporting how far the loading has got along the way.
+     * If the file does not exist return a new empty TaskList.
+     *
+     * @param progressListener Receives the fraction of the file that has been loaded, from 0 to 1
+     * @return Return the TaskList parsed from the given file
+     * @throws InvalidInputException Thrown when the Storage file has unrecognized record
+     * @throws StorageFileException Thrown when encountering IOException when reading the file
+     */
+    public TaskList load(DoubleConsumer progressListener) throws InvalidInputException, StorageFileException {
         TaskList list = new TaskList();
         // If the storage file does not exist, return an empty task list
         if (!storageFile.exists()) {
+            progressListener.accept(1.0);
             return list;
         }
 
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
         try {
             // Read the file
             List<String> lines = readFile(storageFile);
+            int noOfLines = lines.size();
+            int step = Math.max(1, noOfLines / PROGRESS_STEPS);
             // Process each line in the file
-            for (String line : lines) {
+            for (int i = 0; i < noOfLines; i++) {
                 // Parse the line and add the task to the task list
-                processLine(list, line);
+                processLine(list, lines.get(i));
+                if ((i + 1) % step == 0) {
+                    progressListener.accept((double) (i + 1) / noOfLines);
+                }
             }
+            progressListener.accept(1.0);
+            event.finish(storageFile, list.getNoOfTasks());
             // Return the task list
             return list;
         } catch (FileNotFoundException e) {
@@ -186,22 +218,88 @@ public class Storage {
     }
     //@@author
 
+    /**
+     * Sets whether saves are deferred. While saves are deferred, {@link #saveTaskList(TaskList)} only remembers
+     * the task list, and nothing is written until {@link #flush()} is called. This lets a long run of commands
+     * write the file once instead of once per command.
+     *
+     * @param isDeferred Whether saves should be deferred
+     */
+    public void setDeferred(boolean isDeferred) {
+        this.isDeferred = isDeferred;
+    }
+
+    /**
+     * Writes the task list of the latest deferred save to the file, if there is one.
+     *
+     * @throws StorageFileException Throws StorageFileException when encountering an
+     *      IOException when writing to the file.
+     */
+    public void flush() throws StorageFileException {
+        if (this.pendingTaskList != null) {
+            TaskList taskList = this.pendingTaskList;
+            this.pendingTaskList = null;
+            writeTaskList(taskList);
+        }
+    }
+
     /**
      * Saves the given task list to the file associated with this StorageFile object.
      * If the parent folder of the file does not exist, it will be created.
+     * If saves are deferred, the task list is only written on the next {@link #flush()}.
      *
      * @param taskList The task list to be saved.
      * @throws StorageFileException Throws StorageFileException when encountering an
      *      IOException when writing to the file.
      */
     public void saveTaskList(TaskList taskList) throws StorageFileException {
+        if (this.isDeferred) {
+            this.pendingTaskList = taskList;
+            return;
+        }
+        writeTaskList(taskList);
+    }
+
+    /**
+     * Writes the given task list to the file associated with this StorageFile object.
+     * The write is a Flight Recorder event, and when metrics are enabled, the time taken and the size of the file
+     * are also recorded.
+     *
+     * @param taskList The task list to be written.
+     * @throws StorageFileException Throws StorageFileException when encountering an
+     *      IOException when writing to the file.
+     */
+    private void writeTaskList(TaskList taskList) throws StorageFileException {
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int noOfRecords = writeRecord(taskList);
+        long elapsed = System.nanoTime() - start;
+        event.finish(storageFile, noOfRecords);
+        if (MetricsRegistry.isEnabled()) {
+            MetricsRegistry metrics = MetricsRegistry.getDefault();
+            metrics.recordPhase(Phase.PERSIST, elapsed);
+            metrics.recordBytesWritten(storageFile.length());
+        }
+    }
+
+    /**
+     * Writes the storage strings of the given task list to the file, one line per task.
+     *
+     * @param taskList The task list to be written.
+     * @return The number of tasks written.
+     * @throws StorageFileException Throws StorageFileException when encountering an
+     *      IOException when writing to the file.
+     */
+    private int writeRecord(TaskList taskList) throws StorageFileException {
         // Create parent folder if it does not exist
         createParentFolderIfNotExists();
 
         StringBuilder record = new StringBuilder();
-        // Append each task's storage string to the record
-        for (int i = 0; i < taskList.getNoOfTasks(); i++) {
-            DukeTask task = taskList.getTask(i);
+        // Append each task's storage string to the record, working off a snapshot so that
+        // the record stays consistent even if the task list is updated in the meantime
+        TaskList snapshot = taskList.snapshot();
+        for (DukeTask task : snapshot) {
             record.append(task.storageString()).append(System.lineSeparator());
         }
 
@@ -211,6 +309,7 @@ public class Storage {
         } catch (IOException e) {
             throw new StorageFileException(ErrorMessage.STORAGE_ERROR);
         }
+        return snapshot.getNoOfTasks();
     }
 
     /**
@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import duke.parser.TimeHandler;
+
 /**
  * A DeadlineTask that encapsulates the information and starting and ending
  * dates of a Deadline Task.
@@ -56,11 +58,11 @@ public class DeadlineTask extends DukeTask {
      * @return A string representation of the task
      */
     @Override
-    public String storageString() {
+    protected String formatStorage() {
         // Format the task status, task information, and deadline into a single string
         String isCompleted = this.getStatus() ? "[X]" : "[ ]";
         return String.format(STORAGE_FORMAT, isCompleted, this.getInformation().trim(),
-                this.deadline.format(formatter));
+                TimeHandler.formatStorageDateTime(this.deadline));
     }
 
     /**
@@ -70,7 +72,7 @@ public class DeadlineTask extends DukeTask {
      * @return A string representation of the task
      */
     @Override
-    public String toString() {
+    protected String formatDisplay() {
         String status = this.getStatus() ? "[X]" : "[ ]";
         return String.format(FORMAT, status, this.getInformation(), this.deadline.format(formatter));
     }
@@ -5,13 +5,32 @@ import java.time.LocalDate;
 /**
  * An abstract Task class encapsulating a task in Duke, which can be extended
  * by more specific tasks like Events, toDos, etc.
+ * The display and storage forms of a task are formatted when they are first needed and kept until the task changes,
+ * so listing or saving many tasks does not format the same tasks again and again.
  */
 public abstract class DukeTask {
     private static final String DONE_FLAG = "[X] ";
     private static final String UNDONE_FLAG = "[ ] ";
-    private String information;
+    private volatile String information;
     private final TaskType type;
-    private boolean isDone;
+    private volatile boolean isDone;
+    // Increased after every change to the task, so that forms formatted before the change are not used
+    private volatile int revision = 0;
+    private volatile Rendering display;
+    private volatile Rendering storage;
+
+    /**
+     * A formatted form of the task together with the revision of the task it was formatted from.
+     */
+    private static class Rendering {
+        private final int revision;
+        private final String text;
+
+        private Rendering(int revision, String text) {
+            this.revision = revision;
+            this.text = text;
+        }
+    }
 
     /**
      * Constructor for DukeTask that takes in the information of the task and its type.
@@ -55,6 +74,7 @@ public abstract class DukeTask {
      */
     public void markAsDone() {
         this.isDone = true;
+        this.revision++;
     }
 
     /**
@@ -62,6 +82,24 @@ public abstract class DukeTask {
      */
     public void unmark() {
         this.isDone = false;
+        this.revision++;
+    }
+
+    /**
+     * Returns the String representation for the storage file, formatting it only if the task has changed
+     * since it was last formatted.
+     *
+     * @return the String representation for the storage file.
+     */
+    public final String storageString() {
+        int currentRevision = this.revision;
+        Rendering rendering = this.storage;
+        if (rendering == null || rendering.revision != currentRevision) {
+            // Read the revision before formatting, so that a change made meanwhile is formatted again next time
+            rendering = new Rendering(currentRevision, formatStorage());
+            this.storage = rendering;
+        }
+        return rendering.text;
     }
 
     /**
@@ -69,7 +107,7 @@ public abstract class DukeTask {
      *
      * @return the String representation for the storage file.
      */
-    public abstract String storageString();
+    protected abstract String formatStorage();
 
     /**
      * Takes in a date and check whether the current task happens on that date.
@@ -96,16 +134,33 @@ public abstract class DukeTask {
      */
     public void updateInformation(String information) {
         this.information = information;
+        this.revision++;
     }
 
     /**
-     * Returns a string representation of the task in the format "DONE_FLAG/UNDONE_FLAG information".
-     * DONE_FLAG is used if the task is done, UNDONE_FLAG otherwise.
+     * Returns the string representation of the task, formatting it only if the task has changed
+     * since it was last formatted.
      *
      * @return A string representation of the task
      */
     @Override
-    public String toString() {
+    public final String toString() {
+        int currentRevision = this.revision;
+        Rendering rendering = this.display;
+        if (rendering == null || rendering.revision != currentRevision) {
+            rendering = new Rendering(currentRevision, formatDisplay());
+            this.display = rendering;
+        }
+        return rendering.text;
+    }
+
+    /**
+     * Forms the string representation of the task in the format "DONE_FLAG/UNDONE_FLAG information".
+     * DONE_FLAG is used if the task is done, UNDONE_FLAG otherwise.
+     *
+     * @return A string representation of the task
+     */
+    protected String formatDisplay() {
         return (getStatus() ? DONE_FLAG : UNDONE_FLAG) + getInformation();
     }
 }
@@ -6,6 +6,7 @@ import java.time.format.DateTimeFormatter;
 
 import duke.exception.InvalidInputException;
 import duke.parser.ErrorMessage;
+import duke.parser.TimeHandler;
 
 /**
  * An Event that encapsulates the information and starting and ending times of an EventTask.
@@ -63,10 +64,11 @@ public class EventTask extends DukeTask {
      * @return A string representation of the task
      */
     @Override
-    public String storageString() {
+    protected String formatStorage() {
         String isComplete = this.getStatus() ? "[X] | " : "[ ] | ";
         return String.format(STORAGE_FORMAT, isComplete,
-                this.getInformation().trim(), this.startTime, this.endTime);
+                this.getInformation().trim(), TimeHandler.formatStorageDateTime(this.startTime),
+                TimeHandler.formatStorageDateTime(this.endTime));
     }
 
     /**
@@ -91,7 +93,7 @@ public class EventTask extends DukeTask {
      * @return A string representation of the task
      */
     @Override
-    public String toString() {
+    protected String formatDisplay() {
         String status = this.getStatus() ? "[X]" : "[ ]";
         return String.format(PRINT_FORMAT, status,
                 this.getInformation(), this.startTime.format(formatter), this.endTime.format(formatter));
@@ -40,7 +40,7 @@ public class FixedDurationTask extends DukeTask {
      * @return The task information in the storage format.
      */
     @Override
-    public String storageString() {
+    protected String formatStorage() {
         // Format the task status, task information, and duration into a single string
         String isCompleted = this.getStatus() ? "[X]" : "[ ]";
         return String.format(STORAGE_FORMAT, isCompleted,
@@ -64,8 +64,8 @@ public class FixedDurationTask extends DukeTask {
      * @return A string representation of the task.
      */
     @Override
-    public String toString() {
-        return String.format(PRINT_FORMAT, super.toString(),
+    protected String formatDisplay() {
+        return String.format(PRINT_FORMAT, super.formatDisplay(),
                 TimeHandler.humanReadableFormat(this.duration));
     }
 
@@ -0,0 +1,336 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A TaskList class that encapsulates the information and actions of a task list.
+ * The tasks are held in a persistent {@link TaskSequence}, so every update swaps in a new version that shares
+ * structure with the old one, and {@link #snapshot()} gives readers a consistent view in constant time.
+ * Every change, including a change made to a task through this TaskList, increases the version of the TaskList.
+ */
+public class TaskList implements Iterable<DukeTask> {
+    // The tasks and their version are published together, so that a reader never sees one without the other
+    private volatile State state;
+
+    /**
+     * The tasks of a TaskList together with their version. A State is never modified after construction.
+     */
+    private static final class State {
+        private static final State EMPTY = new State(TaskSequence.EMPTY, 0);
+
+        private final TaskSequence tasks;
+        private final long version;
+
+        private State(TaskSequence tasks, long version) {
+            this.tasks = tasks;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Constructor of the TaskList class that create an empty TaskList.
+     */
+    public TaskList() {
+        this.state = State.EMPTY;
+    }
+
+    /**
+     * Constructs a TaskList object with the given ArrayList of DukeTask.
+     *
+     * @param list ArrayList of DukeTask
+     */
+    public TaskList(ArrayList<DukeTask> list) {
+        this.state = new State(TaskSequence.of(list), 0);
+    }
+
+    /**
+     * Constructs a TaskList object by copying the values from an existing TaskList object.
+     * The copy shares its structure with the existing TaskList and takes constant time.
+     *
+     * @param other the existing TaskList object
+     */
+    public TaskList(TaskList other) {
+        // One read of the state, so the copy can never pair old tasks with a new version
+        this.state = other.state;
+    }
+
+    /**
+     * Takes a snapshot of the current tasks in constant time. Later updates to this TaskList are not
+     * visible in the snapshot, and updates to the snapshot are not visible in this TaskList.
+     * Note that the snapshot holds the same task objects, so changes made to a task itself are seen by both.
+     *
+     * @return A snapshot of the current tasks
+     */
+    public TaskList snapshot() {
+        return new TaskList(this);
+    }
+
+    /**
+     * Adds the given task to the TaskList.
+     *
+     * @param task The TaskList to be added
+     */
+    public void addTask(DukeTask task) {
+        publish(this.state.tasks.append(task));
+    }
+
+    /**
+     * Removes the task at the specified index in the task list and returns the task that was removed.
+     *
+     * @param taskIndex The index of the task to be removed
+     * @return The task that was removed
+     */
+    public DukeTask deleteTask(int taskIndex) {
+        TaskSequence current = this.state.tasks;
+        DukeTask taskToDelete = current.get(taskIndex);
+        publish(current.remove(taskIndex));
+        return taskToDelete;
+    }
+
+    /**
+     * Marks the task at the specified index as done.
+     *
+     * @param taskIndex The index of the task to be marked
+     * @return The task that was marked
+     */
+    public DukeTask markTask(int taskIndex) {
+        DukeTask task = this.state.tasks.get(taskIndex);
+        task.markAsDone();
+        publish(this.state.tasks);
+        return task;
+    }
+
+    /**
+     * Marks the task at the specified index as not done.
+     *
+     * @param taskIndex The index of the task to be unmarked
+     * @return The task that was unmarked
+     */
+    public DukeTask unmarkTask(int taskIndex) {
+        DukeTask task = this.state.tasks.get(taskIndex);
+        task.unmark();
+        publish(this.state.tasks);
+        return task;
+    }
+
+    /**
+     * Updates the information of the task at the specified index.
+     *
+     * @param taskIndex The index of the task to be updated
+     * @param information The new information of the task
+     * @return The task that was updated
+     */
+    public DukeTask updateTask(int taskIndex, String information) {
+        DukeTask task = this.state.tasks.get(taskIndex);
+        task.updateInformation(information);
+        publish(this.state.tasks);
+        return task;
+    }
+
+    /**
+     * Returns the version of the TaskList, which is increased by every change made through the TaskList.
+     * Two reads that return the same version saw the same tasks in the same state.
+     *
+     * @return The version of the TaskList
+     */
+    public long getVersion() {
+        return this.state.version;
+    }
+
+    /**
+     * Publishes the given tasks as the next version of the TaskList.
+     * Only the one thread that is changing the TaskList at a time calls this.
+     *
+     * @param tasks The tasks after the change
+     */
+    private void publish(TaskSequence tasks) {
+        this.state = new State(tasks, this.state.version + 1);
+    }
+
+    /**
+     * Indicates the number of the task on the list.
+     *
+     * @return The number of the task on the list
+     */
+    public int getNoOfTasks() {
+        return this.state.tasks.size();
+    }
+
+    /**
+     * Gets the Task of the given index from the TaskList.
+     *
+     * @param index The index of the task to be obtained
+     * @return The task of the given index
+     */
+    public DukeTask getTask(int index) {
+        return this.state.tasks.get(index);
+    }
+
+    /**
+     * Returns a copy of the tasks as an ArrayList of DukeTask.
+     * Changes made to the returned list are not reflected in the TaskList.
+     *
+     * @return The ArrayList of DukeTask
+     */
+    public ArrayList<DukeTask> getTasks() {
+        return this.state.tasks.toArrayList();
+    }
+
+    /**
+     * Returns an iterator over the tasks in order. The iterator works on the version of the tasks
+     * at the time of the call and is not affected by later updates.
+     *
+     * @return An iterator over the tasks
+     */
+    @Override
+    public Iterator<DukeTask> iterator() {
+        return this.state.tasks.iterator();
+    }
+
+    /**
+     * Returns an iterator over the tasks in order, starting at the given index. The iterator works on
+     * the version of the tasks at the time of the call and reaches the start in logarithmic time.
+     *
+     * @param from The index of the first task to be returned
+     * @return An iterator over the tasks from the given index
+     */
+    public Iterator<DukeTask> iterator(int from) {
+        return this.state.tasks.iterator(from);
+    }
+
+    /**
+     * Clears the task list.
+     */
+    public void clearTasks() {
+        publish(TaskSequence.EMPTY);
+    }
+
+    /**
+     * Sets the tasks to be the given ArrayList of DukeTask.
+     *
+     * @param tasks The ArrayList of DukeTask
+     */
+    public void setTasks(ArrayList<DukeTask> tasks) {
+        publish(TaskSequence.of(tasks));
+    }
+
+    /**
+     * Check if the task list is empty.
+     *
+     * @return true if the task list is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.state.tasks.size() == 0;
+    }
+
+    /**
+     * Extracts all incomplete deadline tasks from the task list and returns them as a new TaskList.
+     * The tasks are sorted by their deadlines in ascending order.
+     *
+     * @return A new TaskList containing all incomplete deadline tasks from the original list
+     */
+    public TaskList extractDeadlines() {
+        // Create a stream of tasks
+        List<DukeTask> result = this.state.tasks.toArrayList().stream()
+                // filter the stream to only include DEADLINE tasks that are not done
+                .filter(task -> task.getType() == TaskType.DEADLINE && !task.getStatus())
+                // sort the filtered tasks based on their end date
+                .sorted(Comparator.comparing(x -> {
+                    DeadlineTask ddlTask = (DeadlineTask) x;
+                    return ddlTask.getEndDate();
+                }))
+                // collect the sorted tasks into a list
+                .collect(Collectors.toList());
+
+        // return a new taskList containing the filtered and sorted tasks
+        return new TaskList(new ArrayList<>(result));
+    }
+
+    /**
+     * Categorizes the tasks in the task list into four different task lists: deadline, event,
+     * fixed duration, and to-do.
+     *
+     * @return an array of task lists containing the categorized tasks. The order of the task lists in the array
+     *      is [deadline, event, fixed duration, to-do].
+     */
+    public TaskList[] categorizeTask() {
+        TaskList[] listOfLists = new TaskList[4];
+
+        // Initialize task lists for each task type
+        ArrayList<DukeTask> deadlineList = new ArrayList<>();
+        ArrayList<DukeTask> eventList = new ArrayList<>();
+        ArrayList<DukeTask> fixedDurationList = new ArrayList<>();
+        ArrayList<DukeTask> todoList = new ArrayList<>();
+
+        // Iterate through all tasks in the master task list
+        for (DukeTask task : this.state.tasks) {
+            if (task.getType() == TaskType.DEADLINE) {
+                // Add task to deadline list if it is a deadline task
+                deadlineList.add(task);
+            } else if (task.getType() == TaskType.EVENT) {
+                // Add task to eventList if it is an event task
+                eventList.add(task);
+            } else if (task.getType() == TaskType.FIXED_DURATION) {
+                // Add task to fixed duration list if it is a fixed duration task
+                fixedDurationList.add(task);
+            } else if (task.getType() == TaskType.TODO) {
+                // Add task to to-do list if it is a to-do task
+                todoList.add(task);
+            }
+        }
+
+        // Build each task list in one go and add it to the list of lists
+        listOfLists[0] = new TaskList(deadlineList);
+        listOfLists[1] = new TaskList(eventList);
+        listOfLists[2] = new TaskList(fixedDurationList);
+        listOfLists[3] = new TaskList(todoList);
+
+        return listOfLists;
+    }
+
+    /**
+     * Returns a string representation of the task list in the format "index. task\n".
+     *
+     * @return A string representation of the task list
+     */
+    @Override
+    public String toString() {
+        // Every task keeps its string representation, so measure the whole list first and build it in one go
+        TaskSequence current = this.state.tasks;
+        int length = 0;
+        int index = 1;
+        for (DukeTask task : current) {
+            length += stringSize(index++) + task.toString().length() + 2;
+        }
+
+        // Creating a string builder to append task index and details
+        StringBuilder listContent = new StringBuilder(length);
+        index = 1;
+        // Iterating through the task list
+        for (DukeTask task : current) {
+            // Appending task index and task details
+            listContent.append(index++).append('.').append(task.toString()).append('\n');
+        }
+        // Return the final string representation of the task list
+        return listContent.toString();
+    }
+
+    /**
+     * Returns the number of digits of a positive number.
+     *
+     * @param number The positive number
+     * @return The number of digits
+     */
+    private static int stringSize(int number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
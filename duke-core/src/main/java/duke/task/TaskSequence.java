@@ -0,0 +1,293 @@
+package duke.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, persistent sequence of tasks backed by an AVL tree that is indexed by position.
+ * Every update returns a new TaskSequence that shares all untouched nodes with the old one, so older versions
+ * stay valid and can be read by other threads without any locking.
+ */
+final class TaskSequence implements Iterable<DukeTask> {
+    static final TaskSequence EMPTY = new TaskSequence(null);
+
+    private final Node root;
+
+    /**
+     * A node of the tree. Nodes are never modified after construction.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Node right;
+        private final DukeTask task;
+        private final int size;
+        private final int height;
+
+        private Node(Node left, DukeTask task, Node right) {
+            this.left = left;
+            this.task = task;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private TaskSequence(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds a balanced TaskSequence holding the given tasks in order, in linear time.
+     *
+     * @param tasks The tasks to be held by the sequence
+     * @return A TaskSequence holding the given tasks
+     */
+    static TaskSequence of(List<DukeTask> tasks) {
+        return tasks.isEmpty() ? EMPTY : new TaskSequence(build(tasks, 0, tasks.size()));
+    }
+
+    /**
+     * Returns the number of tasks in the sequence.
+     *
+     * @return The number of tasks in the sequence
+     */
+    int size() {
+        return sizeOf(this.root);
+    }
+
+    /**
+     * Gets the task at the given index.
+     *
+     * @param index The index of the task
+     * @return The task at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    DukeTask get(int index) {
+        checkIndex(index, size());
+        Node node = this.root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.task;
+            }
+        }
+    }
+
+    /**
+     * Returns a new sequence with the given task appended to the end.
+     *
+     * @param task The task to be appended
+     * @return The new sequence
+     */
+    TaskSequence append(DukeTask task) {
+        return new TaskSequence(insert(this.root, size(), task));
+    }
+
+    /**
+     * Returns a new sequence with the task at the given index replaced.
+     *
+     * @param index The index of the task to be replaced
+     * @param task The new task
+     * @return The new sequence
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    TaskSequence set(int index, DukeTask task) {
+        checkIndex(index, size());
+        return new TaskSequence(replace(this.root, index, task));
+    }
+
+    /**
+     * Returns a new sequence with the task at the given index removed.
+     *
+     * @param index The index of the task to be removed
+     * @return The new sequence
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    TaskSequence remove(int index) {
+        checkIndex(index, size());
+        return new TaskSequence(delete(this.root, index));
+    }
+
+    /**
+     * Copies the tasks of the sequence into a new ArrayList.
+     *
+     * @return A new ArrayList holding the tasks in order
+     */
+    ArrayList<DukeTask> toArrayList() {
+        ArrayList<DukeTask> list = new ArrayList<>(size());
+        for (DukeTask task : this) {
+            list.add(task);
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the tasks in order. Since the sequence is immutable, the iterator is never
+     * affected by later updates.
+     *
+     * @return An iterator over the tasks
+     */
+    @Override
+    public Iterator<DukeTask> iterator() {
+        return new InOrderIterator(this.root, 0);
+    }
+
+    /**
+     * Returns an iterator over the tasks in order, starting at the given index. Finding the start takes
+     * logarithmic time, so iterating over a window of the sequence costs as much as the window.
+     *
+     * @param from The index of the first task to be returned
+     * @return An iterator over the tasks from the given index
+     */
+    Iterator<DukeTask> iterator(int from) {
+        return new InOrderIterator(this.root, from);
+    }
+
+    private static Node build(List<DukeTask> tasks, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(tasks, from, mid), tasks.get(mid), build(tasks, mid + 1, to));
+    }
+
+    private static Node insert(Node node, int index, DukeTask task) {
+        if (node == null) {
+            return new Node(null, task, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, task), node.task, node.right);
+        } else {
+            return balance(node.left, node.task, insert(node.right, index - leftSize - 1, task));
+        }
+    }
+
+    private static Node replace(Node node, int index, DukeTask task) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(replace(node.left, index, task), node.task, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.task, replace(node.right, index - leftSize - 1, task));
+        } else {
+            return new Node(node.left, task, node.right);
+        }
+    }
+
+    private static Node delete(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.task, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.task, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the removed node with the first node of its right subtree
+            return balance(node.left, first(node.right), delete(node.right, 0));
+        }
+    }
+
+    private static DukeTask first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.task;
+    }
+
+    private static Node balance(Node left, DukeTask task, Node right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                // Left-right case
+                Node pivot = left.right;
+                return new Node(new Node(left.left, left.task, pivot.left), pivot.task,
+                        new Node(pivot.right, task, right));
+            }
+            // Left-left case
+            return new Node(left.left, left.task, new Node(left.right, task, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                // Right-left case
+                Node pivot = right.left;
+                return new Node(new Node(left, task, pivot.left), pivot.task,
+                        new Node(pivot.right, right.task, right.right));
+            }
+            // Right-right case
+            return new Node(new Node(left, task, right.left), right.task, right.right);
+        }
+        return new Node(left, task, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * An iterator that walks the tree in order with an explicit stack.
+     */
+    private static final class InOrderIterator implements Iterator<DukeTask> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+
+        private InOrderIterator(Node root, int from) {
+            // Keep every node on the path to the start whose own task comes later, like pushLeftSpine does
+            Node node = root;
+            while (node != null) {
+                int leftSize = sizeOf(node.left);
+                if (from < leftSize) {
+                    this.stack.push(node);
+                    node = node.left;
+                } else if (from == leftSize) {
+                    this.stack.push(node);
+                    return;
+                } else {
+                    from -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                this.stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.stack.isEmpty();
+        }
+
+        @Override
+        public DukeTask next() {
+            if (this.stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = this.stack.pop();
+            pushLeftSpine(node.right);
+            return node.task;
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class TodoTask extends DukeTask {
      * @return The task information in the storage format.
      */
     @Override
-    public String storageString() {
+    protected String formatStorage() {
         // Format the task status, task information into a single string
         String isCompleted = this.getStatus() ? "[X]" : "[ ]";
         return String.format(STORAGE_FORMAT, isCompleted, this.getInformation().trim());
@@ -48,7 +48,7 @@ public class TodoTask extends DukeTask {
      * @return A string representation of the task.
      */
     @Override
-    public String toString() {
+    protected String formatDisplay() {
         String isCompleted = this.getStatus() ? "[X]" : "[ ]";
         return String.format(PRINT_FORMAT, isCompleted, this.getInformation());
     }
@@ -0,0 +1,55 @@
+package duke.ui;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A ResponseSink receives a response piece by piece as it is produced, so that a long response, such as the list
+ * of a very large TaskList, can be written out as it goes instead of being built up in memory first.
+ */
+public interface ResponseSink {
+    /**
+     * Appends the given text to the response.
+     *
+     * @param text The text to be appended
+     * @throws UncheckedIOException if the text cannot be written to the underlying output
+     */
+    void append(CharSequence text);
+
+    /**
+     * Appends the given character to the response.
+     *
+     * @param c The character to be appended
+     * @throws UncheckedIOException if the character cannot be written to the underlying output
+     */
+    void append(char c);
+
+    /**
+     * Creates a ResponseSink that appends to the given Appendable, such as a StringBuilder or a Writer.
+     * An IOException thrown by the Appendable is rethrown as an UncheckedIOException.
+     *
+     * @param out The Appendable to append to
+     * @return The ResponseSink
+     */
+    static ResponseSink of(Appendable out) {
+        return new ResponseSink() {
+            @Override
+            public void append(CharSequence text) {
+                try {
+                    out.append(text);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void append(char c) {
+                try {
+                    out.append(c);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+}
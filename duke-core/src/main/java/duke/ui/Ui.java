@@ -1,8 +1,12 @@
 package duke.ui;
 
+import duke.task.DukeTask;
+import duke.task.TaskList;
+
 /**
  * Customize the conversation interface by changing the length of the horizontal bar
  * and the space of indentation.
+ * The response is collected in memory by default, or streamed into a given {@link ResponseSink}.
  */
 
 public class Ui {
@@ -15,6 +19,7 @@ public class Ui {
     private final int horizontalLineLength;
     private final int indentSpace;
     private StringBuilder response = new StringBuilder();
+    private ResponseSink sink = ResponseSink.of(this.response);
 
     /**
      * Constructor that sets HorizontalLineLength to be 70 and IndentSpace to be 4 by default.
@@ -36,6 +41,17 @@ public class Ui {
         this.indentSpace = indentSpace;
     }
 
+    /**
+     * Constructor that streams the response into the given sink instead of collecting it in memory.
+     *
+     * @param sink The sink that receives the response
+     */
+    public Ui(ResponseSink sink) {
+        this();
+        this.response = null;
+        this.sink = sink;
+    }
+
     /**
      * The indent method that places an indentation as specified by the space indent
      * at the start of every line.
@@ -66,23 +82,63 @@ public class Ui {
      */
     public void reset() {
         this.response = new StringBuilder();
+        this.sink = ResponseSink.of(this.response);
     }
 
     /**
      * Get the final response in String format
      *
      * @return the final response in String format
+     * @throws IllegalStateException if the response is streamed into a sink rather than collected
      */
     public String getResponse() {
+        if (this.response == null) {
+            throw new IllegalStateException("The response is streamed and not collected");
+        }
         return String.valueOf(this.response);
     }
 
+    /**
+     * Gets the sink that receives the response.
+     *
+     * @return the sink that receives the response
+     */
+    public ResponseSink getSink() {
+        return this.sink;
+    }
+
     /**
      * Appends a message to the existing response.
      *
      * @param message the message to be appended
      */
     public void appendResponse(String message) {
-        this.response.append(message);
+        this.sink.append(message);
+    }
+
+    /**
+     * Appends the tasks of the given TaskList to the existing response in the format "index.task\n",
+     * one task at a time.
+     *
+     * @param tasks the TaskList to be appended
+     */
+    public void appendTaskList(TaskList tasks) {
+        int index = 1;
+        for (DukeTask task : tasks) {
+            appendTask(index++, task);
+        }
+    }
+
+    /**
+     * Appends a task to the existing response in the format "index.task\n".
+     *
+     * @param index the index of the task to be shown, starting from 1
+     * @param task the task to be appended
+     */
+    public void appendTask(int index, DukeTask task) {
+        this.sink.append(Integer.toString(index));
+        this.sink.append('.');
+        this.sink.append(task.toString());
+        this.sink.append('\n');
     }
 }
@@ -0,0 +1,180 @@
+package duke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.parser.ErrorMessage;
+import duke.ui.ResponseSink;
+
+public class DukeTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Returns the path of the task file in the temporary folder, relative to the working directory,
+     * since Storage resolves every path against the working directory.
+     */
+    private String getTaskFilePath() {
+        return Paths.get("").toAbsolutePath().relativize(this.tempDir.resolve("tasks.txt")).toString();
+    }
+
+    @Test
+    public void dummyTest() {
+        assertEquals(2, 2);
+    }
+
+    @Test
+    public void anotherDummyTest() {
+        assertEquals(4, 4);
+    }
+
+    @Test
+    public void getResponse_queryRepeatedAfterChange_responseUpdated() {
+        Duke duke = new Duke(getTaskFilePath());
+        duke.getResponse("todo buy milk");
+        String firstList = duke.getResponse("list");
+        assertEquals(firstList, duke.getResponse("list"));
+
+        duke.getResponse("mark 1");
+        String secondList = duke.getResponse("list");
+        assertTrue(secondList.contains("[X]"));
+        assertFalse(firstList.equals(secondList));
+
+        duke.getResponse("update 1 buy bread");
+        assertTrue(duke.getResponse("find bread").contains("buy bread"));
+    }
+
+    @Test
+    public void getResponse_listPageAndFilters_onlyRequestedTasksShown() {
+        Duke duke = new Duke(getTaskFilePath());
+        for (int i = 1; i <= 5; i++) {
+            duke.getResponse("todo task " + i);
+        }
+        duke.getResponse("deadline report /by 2023-01-16 1800");
+        duke.getResponse("mark 2");
+
+        assertEquals("Here are the tasks in your list:\n3.[T][ ] task 3\n4.[T][ ] task 4\n"
+                + "There are more tasks, type \"list from 5 size 2\" to see them.",
+                duke.getResponse("list page 2 size 2"));
+        assertEquals("Here are the tasks in your list:\n5.[T][ ] task 5\n6.[D][ ] report ( by: Jan 16 2023 18:00 )\n",
+                duke.getResponse("list from 5 size 2"));
+        assertEquals("Here are the tasks in your list:\n3.[T][ ] task 3\n"
+                + "There are more tasks, type \"list from 4 size 1 --type todo --undone\" to see them.",
+                duke.getResponse("list --undone --type todo page 2 size 1"));
+        assertEquals("Here are the tasks in your list:\n6.[D][ ] report ( by: Jan 16 2023 18:00 )\n",
+                duke.getResponse("list --type deadline"));
+    }
+
+    @Test
+    public void getResponse_fullPageWithNoMatchesAfter_noMoreTasksShown() {
+        Duke duke = new Duke(getTaskFilePath());
+        duke.getResponse("todo task 1");
+        duke.getResponse("deadline report /by 2023-01-16 1800");
+        duke.getResponse("todo task 2");
+        duke.getResponse("deadline review /by 2023-01-17 1800");
+
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] task 1\n3.[T][ ] task 2\n",
+                duke.getResponse("list --type todo page 1 size 2"));
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] task 1\n"
+                + "There are more tasks, type \"list from 3 size 1 --type todo\" to see them.",
+                duke.getResponse("list --type todo page 1 size 1"));
+    }
+
+    @Test
+    public void respond_slowSinkForChange_otherChangesNotBlocked() throws Exception {
+        Duke duke = new Duke(getTaskFilePath());
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        ResponseSink slowSink = new ResponseSink() {
+            @Override
+            public void append(CharSequence text) {
+                isWriting.countDown();
+                try {
+                    canFinish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void append(char c) {
+                append(String.valueOf(c));
+            }
+        };
+
+        CompletableFuture<Void> slowChange = CompletableFuture.runAsync(
+                () -> duke.respond("todo buy milk", slowSink));
+        assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> otherChange = CompletableFuture.supplyAsync(
+                () -> duke.getResponse("todo buy bread"));
+        try {
+            assertTrue(otherChange.get(5, TimeUnit.SECONDS).contains("buy bread"));
+        } finally {
+            canFinish.countDown();
+        }
+        slowChange.get(5, TimeUnit.SECONDS);
+        assertEquals(2, duke.getNoOfTasks());
+    }
+
+    @Test
+    public void getResponse_threadInterrupted_scanningQueriesCancelled() {
+        Duke duke = new Duke(getTaskFilePath());
+        duke.getResponse("deadline report /by 2023-01-16 1800");
+
+        for (String input : new String[] {"free", "find report", "view 2023-01-16"}) {
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(CancellationException.class, () -> duke.getResponse(input));
+            } finally {
+                Thread.interrupted();
+            }
+        }
+        assertTrue(duke.getResponse("find report").contains("report"));
+    }
+
+    @Test
+    public void startLoading_existingFile_commandsAnsweredAfterLoading() throws Exception {
+        String filePath = getTaskFilePath();
+        Duke writer = new Duke(filePath);
+        writer.getResponse("todo buy milk");
+        writer.getResponse("deadline submit report /by 2023-01-16 1800");
+
+        List<Double> progress = Collections.synchronizedList(new ArrayList<>());
+        Duke duke = Duke.startLoading(filePath, progress::add);
+        String list = duke.getResponse("list");
+
+        assertTrue(list.contains("buy milk"));
+        assertTrue(list.contains("submit report"));
+        assertTrue(duke.whenLoaded().isDone());
+        assertEquals(1.0, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void startLoading_malformedRecord_commandsReportError() throws Exception {
+        Path file = this.tempDir.resolve("tasks.txt");
+        // An event without its end time
+        Files.writeString(file, "[E] | [ ] | project meeting | 2023-01-16T14:00" + System.lineSeparator());
+
+        Duke duke = Duke.startLoading(getTaskFilePath(), progress -> { });
+        String response = duke.getResponse("list");
+
+        assertTrue(response.contains(ErrorMessage.STORAGE_ERROR));
+        assertTrue(duke.whenLoaded().isCompletedExceptionally());
+    }
+}
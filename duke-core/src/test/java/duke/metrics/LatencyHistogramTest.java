@@ -0,0 +1,97 @@
+package duke.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.metrics.MetricsRegistry.Phase;
+import duke.parser.Parser.Instruction;
+
+public class LatencyHistogramTest {
+    @Test
+    public void bucketOf_everyValue_withinBucketBounds() {
+        long previousHighest = -1;
+        for (int bucket = 0; bucket < 200; bucket++) {
+            long highest = LatencyHistogram.highestValueOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previousHighest + 1));
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+            previousHighest = highest;
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformLatencies_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertWithinThreePercent(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinThreePercent(9_900_000, histogram.getValueAtPercentile(99));
+        assertWithinThreePercent(9_990_000, histogram.getValueAtPercentile(99.9));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_noLatencies_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean());
+    }
+
+    @Test
+    public void record_hugeLatency_keptInLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void record_fromManyThreads_noLatencyLost() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 1; j <= 10_000; j++) {
+                    histogram.record(j);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertWithinThreePercent(10_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void report_recordedMetrics_onlyRecordedRowsShown() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.recordInstruction(Instruction.LIST, 2_000);
+        metrics.recordPhase(Phase.PARSE, 500);
+        metrics.recordError();
+        metrics.recordBytesWritten(42);
+
+        String report = metrics.report();
+        assertTrue(report.contains("list"));
+        assertTrue(report.contains("parse"));
+        assertFalse(report.contains("find"));
+        assertTrue(report.endsWith("errors: 1, bytes written: 42"));
+    }
+
+    private static void assertWithinThreePercent(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.03,
+                "expected about " + expected + " but got " + actual);
+    }
+}
@@ -0,0 +1,233 @@
+package duke.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.AddTaskCommand;
+import duke.command.Command;
+import duke.command.ExitCommand;
+import duke.command.FindFreeTimeCommand;
+import duke.command.HelpCommand;
+import duke.command.ListCommand;
+import duke.command.MassDeleteCommand;
+import duke.command.ReminderCommand;
+import duke.command.SortCommand;
+import duke.command.StatsCommand;
+import duke.exception.DukeException;
+import duke.parser.Parser.Instruction;
+
+class ParserTest {
+    @Test
+    public void parse_inputIsBye_returnsExitCommand() throws DukeException {
+        String input = "bye";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof ExitCommand);
+    }
+
+    @Test
+    public void parse_inputIsList_returnsListCommand() throws DukeException {
+        String input = "list";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof ListCommand);
+    }
+
+    @Test
+    public void parse_inputIsReminder_returnsReminderCommand() throws DukeException {
+        String input = "reminder";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof ReminderCommand);
+    }
+
+    @Test
+    public void parse_inputIsMassdelete_returnsMassDeleteCommand() throws DukeException {
+        String input = "massdelete";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof MassDeleteCommand);
+    }
+
+    @Test
+    public void parse_inputIsFree_returnsFindFreeTimeCommand() throws DukeException {
+        String input = "free";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof FindFreeTimeCommand);
+    }
+
+    @Test
+    public void parse_inputIsSortByDate_returnsSortCommand() throws DukeException {
+        String input = "sort by date";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof SortCommand);
+
+    }
+
+    @Test
+    public void parse_inputIsHelp_returnsHelpCommand() throws DukeException {
+        String input = "help";
+        Command command = Parser.parse(input);
+        assertTrue(command instanceof HelpCommand);
+    }
+
+    @Test
+    public void parse_inputIsUnknownCommand_throwsInvalidInputException() {
+        String input = "unknownCommand";
+        try {
+            Command command = Parser.parse(input);
+            fail("Expected InvalidInputException to be thrown.");
+        } catch (DukeException e) {
+            assertEquals("There is something wrong with the input ...\n"
+                    + ErrorMessage.UNRECOGNIZED_ERROR, e.getMessage());
+        }
+
+    }
+
+    @Test
+    public void parse_inputIsEmpty_throwsInvalidInputException() {
+        String input = "";
+        try {
+            Command command = Parser.parse(input);
+            fail("Expected InvalidInputException to be thrown.");
+        } catch (DukeException e) {
+            assertEquals("There is something wrong with the input ...\n"
+                    + ErrorMessage.EMPTY_ERROR, e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_inputInMixedCase_returnsMatchingCommand() throws DukeException {
+        assertTrue(Parser.parse("LiSt") instanceof ListCommand);
+        assertTrue(Parser.parse("BYE") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parse_inputWithExtraWhitespace_returnsMatchingCommand() throws DukeException {
+        assertTrue(Parser.parse("  todo\t  read book  ") instanceof AddTaskCommand);
+        assertTrue(Parser.parse(" reminder ") instanceof ReminderCommand);
+    }
+
+    @Test
+    public void parse_inputIsWhitespaceOnly_throwsInvalidInputException() {
+        try {
+            Parser.parse("   \t ");
+            fail("Expected InvalidInputException to be thrown.");
+        } catch (DukeException e) {
+            assertEquals("There is something wrong with the input ...\n"
+                    + ErrorMessage.EMPTY_ERROR, e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_deadlineWithKeywordInName_splitsAtLastKeyword() throws DukeException {
+        AddTaskLexer.Slots slots = AddTaskLexer.split("read /by the river /by 2023-01-16 1800", "/by",
+                ErrorMessage.INVALID_DEADLINE_FORMAT_ERROR);
+        assertEquals("read /by the river", slots.getName());
+        assertEquals("2023-01-16 1800", slots.getFirst());
+        assertTrue(Parser.parse("deadline read /by the river /by 2023-01-16 1800") instanceof AddTaskCommand);
+    }
+
+    @Test
+    public void parse_deadlineWithoutBy_throwsInvalidInputException() {
+        try {
+            Parser.parse("deadline submit report");
+            fail("Expected InvalidInputException to be thrown.");
+        } catch (DukeException e) {
+            assertEquals("There is something wrong with the input ...\n"
+                    + ErrorMessage.INVALID_DEADLINE_FORMAT_ERROR + "\n"
+                    + String.format(ErrorMessage.MISSING_KEYWORD_ERROR, "/by", 13), e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_eventWithoutFrom_throwsInvalidInputException() {
+        try {
+            Parser.parse("event meeting /to 2023-01-16 1500");
+            fail("Expected InvalidInputException to be thrown.");
+        } catch (DukeException e) {
+            assertEquals("There is something wrong with the input ...\n"
+                    + ErrorMessage.INVALID_EVENT_FORMAT_ERROR + "\n"
+                    + String.format(ErrorMessage.MISSING_KEYWORD_BEFORE_ERROR, "/from", "/to", 9), e.getMessage());
+        }
+    }
+
+    @Test
+    public void parse_readOnlyCommandRepeated_returnsSameCommand() throws DukeException {
+        Command first = Parser.parse("find standup");
+        assertSame(first, Parser.parse("  FIND standup "));
+        assertNotSame(first, Parser.parse("find retro"));
+    }
+
+    @Test
+    public void parse_addTaskCommandRepeated_returnsNewCommand() throws DukeException {
+        assertNotSame(Parser.parse("todo read book"), Parser.parse("todo read book"));
+    }
+
+    @Test
+    public void findInstruction_everyInstruction_readOnlyMatchesCommand() throws DukeException {
+        Map<Instruction, String> inputs = new EnumMap<>(Instruction.class);
+        inputs.put(Instruction.BYE, "bye");
+        inputs.put(Instruction.LIST, "list --undone");
+        inputs.put(Instruction.REMINDER, "reminder");
+        inputs.put(Instruction.HELP, "help");
+        inputs.put(Instruction.MASSDELETE, "massdelete");
+        inputs.put(Instruction.MARK, "mark 1");
+        inputs.put(Instruction.UNMARK, "unmark 1");
+        inputs.put(Instruction.DELETE, "delete 1");
+        inputs.put(Instruction.TODO, "todo read book");
+        inputs.put(Instruction.DEADLINE, "deadline report /by 2023-01-16 1800");
+        inputs.put(Instruction.EVENT, "event meeting /from 2023-01-16 1400 /to 2023-01-16 1500");
+        inputs.put(Instruction.FIND, "find book");
+        inputs.put(Instruction.VIEW, "view 2023-01-16");
+        inputs.put(Instruction.UPDATE, "update 1 read book");
+        inputs.put(Instruction.FREE, "free");
+        inputs.put(Instruction.FIXED, "fixed read /within PT2H");
+        inputs.put(Instruction.SORT, "sort by date");
+        inputs.put(Instruction.STATS, "stats");
+        assertEquals(Instruction.values().length, inputs.size());
+
+        for (Map.Entry<Instruction, String> entry : inputs.entrySet()) {
+            Instruction instruction = Parser.findInstruction(entry.getValue());
+            assertEquals(entry.getKey(), instruction);
+            assertEquals(Parser.parse(entry.getValue()).isReadOnly(), instruction.isReadOnly(), entry.getValue());
+        }
+    }
+
+    @Test
+    public void parse_changingCommand_notCountedInCommandCache() throws DukeException {
+        CommandCache cache = Parser.getCommandCache();
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+        Parser.parse("todo read book");
+        Parser.parse("mark 1");
+        assertEquals(hits, cache.getHits());
+        assertEquals(misses, cache.getMisses());
+
+        Parser.parse("find uncached " + misses);
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    public void parse_inputIsStats_returnsStatsCommand() throws DukeException {
+        assertTrue(Parser.parse("stats") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parse_listWithInvalidOptions_throwsInvalidInputException() {
+        String[] inputs = {"list page", "list page 0", "list page 1 from 2", "list --type meeting", "list all"};
+        for (String input : inputs) {
+            try {
+                Parser.parse(input);
+                fail("Expected InvalidInputException to be thrown for " + input);
+            } catch (DukeException e) {
+                assertEquals("There is something wrong with the input ...\n"
+                        + ErrorMessage.INVALID_LIST_COMMAND_ERROR, e.getMessage());
+            }
+        }
+    }
+}
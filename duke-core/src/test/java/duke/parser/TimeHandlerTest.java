@@ -90,6 +90,66 @@ class TimeHandlerTest {
         assertThrows(InvalidInputException.class, () -> TimeHandler.parseToLocalDateTime(date));
     }
 
+    @Test
+    void parseToLocalDateTime_eachAcceptableFormat_shouldReturnLocalDateTime() throws InvalidInputException {
+        LocalDateTime expected = LocalDateTime.of(2023, 1, 16, 18, 5);
+        String[] dates = {
+            "Jan 16 2023 1805", "Jan 16 2023 18:05", "2023-01-16T18:05", "16/01/2023 1805",
+            "16/01/2023 18:05", "2023/01/16 1805", "2023/01/16 18:05", "2023/01/16T1805",
+            "2023/01/16T18:05", "2023-01-16 1805", "2023-01-16 18:05", "16 Jan 2023 1805",
+            "16 Jan 2023 18:05", "Jan 16, 2023 1805", "Jan 16, 2023 18:05"
+        };
+        for (String date : dates) {
+            assertEquals(expected, TimeHandler.parseToLocalDateTime(date), date);
+        }
+    }
+
+    @Test
+    void parseToLocalDateTime_formatChangesBetweenCalls_shouldReturnLocalDateTime() throws InvalidInputException {
+        assertEquals(LocalDateTime.of(2023, 1, 16, 18, 0), TimeHandler.parseToLocalDateTime("16/01/2023 1800"));
+        assertEquals(LocalDateTime.of(2023, 2, 1, 9, 30), TimeHandler.parseToLocalDateTime("2023/02/01 0930"));
+        assertThrows(InvalidInputException.class, () -> TimeHandler.parseToLocalDateTime("31/04/2023 1800x"));
+        assertEquals(LocalDateTime.of(2023, 3, 2, 7, 0), TimeHandler.parseToLocalDateTime("02/03/2023 0700"));
+    }
+
+    @Test
+    void parseToLocalDate_eachAcceptableFormat_shouldReturnLocalDate() throws InvalidInputException {
+        LocalDate expected = LocalDate.of(2023, 1, 16);
+        String[] dates = {"Jan 16 2023", "2023-01-16", "16/01/2023", "2023/01/16", "16 Jan 2023", "Jan 16, 2023"};
+        for (String date : dates) {
+            assertEquals(expected, TimeHandler.parseToLocalDate(date), date);
+        }
+    }
+
+    @Test
+    void parseStorageDateTime_storageLayout_shouldReturnLocalDateTime() throws InvalidInputException {
+        assertEquals(LocalDateTime.of(2022, 12, 31, 23, 59), TimeHandler.parseStorageDateTime("2022-12-31T23:59"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), TimeHandler.parseStorageDateTime("2024-02-29T00:00"));
+    }
+
+    @Test
+    void parseStorageDateTime_legacyLayout_shouldReturnLocalDateTime() throws InvalidInputException {
+        assertEquals(LocalDateTime.of(2022, 12, 31, 23, 59), TimeHandler.parseStorageDateTime("Dec 31 2022 23:59"));
+    }
+
+    @Test
+    void parseStorageDateTime_otherAcceptableFormat_shouldReturnLocalDateTime() throws InvalidInputException {
+        assertEquals(LocalDateTime.of(2022, 12, 31, 23, 59), TimeHandler.parseStorageDateTime("31/12/2022 2359"));
+    }
+
+    @Test
+    void parseStorageDateTime_invalidDateTime_shouldThrowInvalidInputException() {
+        assertThrows(InvalidInputException.class, () -> TimeHandler.parseStorageDateTime("2022-13-31T23:59"));
+        assertThrows(InvalidInputException.class, () -> TimeHandler.parseStorageDateTime("Dex 31 2022 23:59"));
+    }
+
+    @Test
+    void formatStorageDateTime_validDateTime_shouldRoundTrip() throws InvalidInputException {
+        LocalDateTime dateTime = LocalDateTime.of(987, 3, 4, 5, 6);
+        assertEquals("0987-03-04T05:06", TimeHandler.formatStorageDateTime(dateTime));
+        assertEquals(dateTime, TimeHandler.parseStorageDateTime(TimeHandler.formatStorageDateTime(dateTime)));
+    }
+
     @Test
     void humanReadableFormat_validDuration_shouldReturnHumanReadableFormat() {
         Duration duration = Duration.ofHours(2).plusMinutes(30);
@@ -43,7 +43,7 @@ class DeadlineTaskTest {
         LocalDateTime deadline = LocalDateTime.of(2022, 12, 31, 23, 59);
         DeadlineTask task = new DeadlineTask("Finish project", deadline);
 
-        String expectedString = "[D] | [ ] | Finish project | Dec 31 2022 23:59";
+        String expectedString = "[D] | [ ] | Finish project | 2022-12-31T23:59";
         assertEquals(expectedString, task.storageString());
     }
 
@@ -0,0 +1,196 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskListTest {
+    @Test
+    public void addTask_validTask_taskAddedToList() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        assertEquals(1, taskList.getNoOfTasks());
+        assertEquals(task, taskList.getTask(0));
+    }
+
+    @Test
+    public void deleteTask_validIndex_taskDeletedFromList() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        assertEquals(1, taskList.getNoOfTasks());
+        assertEquals(task, taskList.getTask(0));
+
+        DukeTask deletedTask = taskList.deleteTask(0);
+        assertEquals(task, deletedTask);
+        assertEquals(0, taskList.getNoOfTasks());
+    }
+
+    @Test
+    public void getNoOfTasks_emptyList_returnsZero() {
+        TaskList taskList = new TaskList();
+        assertEquals(0, taskList.getNoOfTasks());
+    }
+
+    @Test
+    public void getNoOfTasks_listWithTask_returnsNumberOfTasksInList() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        assertEquals(1, taskList.getNoOfTasks());
+    }
+
+    @Test
+    public void getTask_validIndex_returnsTaskAtIndex() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        assertEquals(task, taskList.getTask(0));
+    }
+
+    @Test
+    public void getTasks_listWithTask_returnsListOfTasks() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        ArrayList<DukeTask> tasks = taskList.getTasks();
+        assertEquals(1, tasks.size());
+        assertEquals(task, tasks.get(0));
+    }
+
+    @Test
+    public void clearTasks_listWithTasks_listIsCleared() {
+        TaskList taskList = new TaskList();
+        DukeTask task = new TodoTask("Buy milk");
+        taskList.addTask(task);
+        assertEquals(1, taskList.getNoOfTasks());
+
+        taskList.clearTasks();
+        assertEquals(0, taskList.getNoOfTasks());
+    }
+
+    @Test
+    public void isEmpty_emptyList_returnsTrue() {
+        TaskList taskList = new TaskList();
+        assertTrue(taskList.isEmpty());
+    }
+
+    @Test
+    public void snapshot_listUpdatedAfterSnapshot_snapshotUnchanged() {
+        TaskList taskList = new TaskList();
+        DukeTask first = new TodoTask("Buy milk");
+        DukeTask second = new TodoTask("Read book");
+        taskList.addTask(first);
+        taskList.addTask(second);
+
+        TaskList snapshot = taskList.snapshot();
+        taskList.deleteTask(0);
+        taskList.addTask(new TodoTask("Go jogging"));
+
+        assertEquals(2, snapshot.getNoOfTasks());
+        assertEquals(first, snapshot.getTask(0));
+        assertEquals(second, snapshot.getTask(1));
+        assertEquals(second, taskList.getTask(0));
+    }
+
+    @Test
+    public void snapshot_snapshotUpdated_listUnchanged() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new TodoTask("Buy milk"));
+
+        TaskList snapshot = taskList.snapshot();
+        snapshot.clearTasks();
+
+        assertTrue(snapshot.isEmpty());
+        assertFalse(taskList.isEmpty());
+    }
+
+    @Test
+    public void deleteTask_manyTasks_remainingTasksInOrder() {
+        TaskList taskList = new TaskList();
+        ArrayList<DukeTask> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            DukeTask task = new TodoTask("Task " + i);
+            taskList.addTask(task);
+            expected.add(task);
+        }
+
+        // Delete every third task, starting from the back so that the indexes stay valid
+        for (int i = 999; i >= 0; i -= 3) {
+            assertEquals(expected.remove(i), taskList.deleteTask(i));
+        }
+
+        assertEquals(expected, taskList.getTasks());
+        int index = 0;
+        for (DukeTask task : taskList) {
+            assertEquals(expected.get(index++), task);
+        }
+        assertEquals(expected.size(), index);
+    }
+
+    @Test
+    public void getVersion_taskChangedThroughList_versionIncreased() {
+        TaskList taskList = new TaskList();
+        long version = taskList.getVersion();
+        taskList.addTask(new TodoTask("Buy milk"));
+        assertTrue(taskList.getVersion() > version);
+
+        version = taskList.getVersion();
+        taskList.markTask(0);
+        assertTrue(taskList.getTask(0).getStatus());
+        assertTrue(taskList.getVersion() > version);
+
+        version = taskList.getVersion();
+        taskList.updateTask(0, "Buy bread");
+        assertEquals("Buy bread", taskList.getTask(0).getInformation());
+        assertTrue(taskList.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_snapshotTaken_sameVersion() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new TodoTask("Buy milk"));
+        TaskList snapshot = taskList.snapshot();
+        assertEquals(taskList.getVersion(), snapshot.getVersion());
+
+        taskList.unmarkTask(0);
+        assertFalse(taskList.getVersion() == snapshot.getVersion());
+    }
+
+    @Test
+    public void snapshot_takenWhileTasksAdded_versionMatchesTasks() throws InterruptedException {
+        TaskList taskList = new TaskList();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                taskList.addTask(new TodoTask("Task " + i));
+            }
+        });
+        writer.start();
+        // Every change so far was an add to an empty list, so the version always equals the number of tasks
+        while (writer.isAlive()) {
+            TaskList snapshot = taskList.snapshot();
+            assertEquals(snapshot.getVersion(), snapshot.getNoOfTasks());
+        }
+        writer.join();
+        assertEquals(20_000, taskList.getVersion());
+    }
+
+    @Test
+    public void iterator_fromIndex_startsAtIndex() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 100; i++) {
+            taskList.addTask(new TodoTask("Task " + i));
+        }
+        for (int from = 0; from < 100; from++) {
+            Iterator<DukeTask> iterator = taskList.iterator(from);
+            assertEquals("Task " + from, iterator.next().getInformation());
+        }
+        assertFalse(taskList.iterator(100).hasNext());
+    }
+}
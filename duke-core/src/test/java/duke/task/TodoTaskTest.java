@@ -71,4 +71,16 @@ public class TodoTaskTest {
         task2.unmark();
         assertNotEquals(task1, task2);
     }
+
+    @Test
+    public void toString_taskChangedAfterFormatting_returnsUpdatedString() {
+        TodoTask task = new TodoTask("Buy milk");
+        assertEquals("[T][ ] Buy milk", task.toString());
+        assertEquals("[T] | [ ] | Buy milk", task.storageString());
+
+        task.markAsDone();
+        task.updateInformation("Buy bread");
+        assertEquals("[T][X] Buy bread", task.toString());
+        assertEquals("[T] | [X] | Buy bread", task.storageString());
+    }
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
 
+import duke.task.TaskList;
+import duke.task.TodoTask;
+
 public class UiTest {
     private final Ui ui = new Ui();
 
@@ -48,4 +51,17 @@ public class UiTest {
         String expected = "";
         assertEquals(expected, ui.getResponse());
     }
+
+    @Test
+    public void appendTaskList_streamedIntoSink_tasksAppendedInOrder() {
+        StringBuilder output = new StringBuilder();
+        Ui streamingUi = new Ui(ResponseSink.of(output));
+        TaskList tasks = new TaskList();
+        tasks.addTask(new TodoTask("Buy milk"));
+        tasks.addTask(new TodoTask("Buy eggs"));
+
+        streamingUi.appendResponse("Tasks:\n");
+        streamingUi.appendTaskList(tasks);
+        assertEquals("Tasks:\n" + tasks, output.toString());
+    }
 }
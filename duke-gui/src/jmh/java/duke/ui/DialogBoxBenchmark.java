@@ -0,0 +1,86 @@
+package duke.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.HBox;
+
+/**
+ * Measures how long it takes to create 1,000 dialog boxes, by loading /view/DialogBox.fxml for each one
+ * as DialogBox used to, and with the DialogBox factory methods that build the same layout in code.
+ * The dialog boxes are not added to a scene, so they can be created off the JavaFX Application Thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DialogBoxBenchmark {
+    private static final int NO_OF_DIALOGS = 1000;
+    private static final String TEXT = "Got it. I've added this task:\n    [T][ ] buy groceries\n"
+            + "Now you have 12 tasks in the list.";
+
+    private URL template;
+    private Image image;
+
+    /**
+     * Starts the JavaFX toolkit, which the controls need even when they are not shown.
+     */
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // The toolkit is already running
+        }
+        this.template = DialogBoxBenchmark.class.getResource("/view/DialogBox.fxml");
+        this.image = new WritableImage(66, 66);
+    }
+
+    /**
+     * Creates the dialog boxes by loading the FXML file once for each of them.
+     *
+     * @param blackhole Consumes the dialog boxes so that they are not optimised away
+     * @throws IOException if the FXML file cannot be loaded
+     */
+    @Benchmark
+    public void createWithFxmlLoader(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < NO_OF_DIALOGS; i++) {
+            FXMLLoader fxmlLoader = new FXMLLoader(this.template);
+            fxmlLoader.setRoot(new HBox());
+            blackhole.consume(fxmlLoader.<HBox>load());
+        }
+    }
+
+    /**
+     * Creates the dialog boxes with the DialogBox factory methods.
+     *
+     * @param blackhole Consumes the dialog boxes so that they are not optimised away
+     */
+    @Benchmark
+    public void createInCode(Blackhole blackhole) {
+        for (int i = 0; i < NO_OF_DIALOGS; i++) {
+            blackhole.consume(i % 2 == 0
+                    ? DialogBox.getUserDialog(TEXT, this.image)
+                    : DialogBox.getDukeDialog(TEXT, this.image));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package duke.ui;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import duke.Duke;
+
+/**
+ * A CommandQueue runs user inputs against Duke on a background thread, so that a slow command does not hold up
+ * the thread that submitted it, such as the JavaFX Application Thread.
+ * Inputs run one at a time in the order they were submitted, and each response is handed to its callback
+ * through the delivery Executor, such as {@code Platform::runLater}, in the same order.
+ * Queries that are waiting or running can be cancelled; commands that change the TaskList always run to the end.
+ * A running query is stopped by interrupting its thread.
+ */
+public class CommandQueue {
+    public static final String CANCELLED_MESSAGE = "Cancelled.";
+
+    private final Duke duke;
+    private final Executor deliverer;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-command-queue");
+        // Do not keep the application alive once the window is closed
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Queue<Request> pendingQueries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a CommandQueue that runs inputs against the given Duke.
+     *
+     * @param duke The Duke that runs the inputs
+     * @param deliverer The Executor that runs the callbacks with the responses
+     */
+    public CommandQueue(Duke duke, Executor deliverer) {
+        this.duke = duke;
+        this.deliverer = deliverer;
+    }
+
+    /**
+     * Queues the input to be run after all inputs submitted before it.
+     *
+     * @param input User input
+     * @param onResponse The callback that receives the response, or {@link #CANCELLED_MESSAGE} if it was cancelled
+     */
+    public void submit(String input, Consumer<String> onResponse) {
+        Request request = new Request(input, onResponse, this.duke.isReadOnly(input));
+        if (request.isQuery) {
+            this.pendingQueries.add(request);
+        }
+        this.worker.execute(request);
+    }
+
+    /**
+     * Cancels every query that is waiting or running. A waiting query is skipped when its turn comes,
+     * and a running query is interrupted and stops at its next task or the next piece of its response.
+     * Either way, its callback receives {@link #CANCELLED_MESSAGE} in its usual place in the order.
+     */
+    public void cancelQueries() {
+        Request request;
+        while ((request = this.pendingQueries.poll()) != null) {
+            request.cancel();
+        }
+    }
+
+    /**
+     * Stops the background thread. Inputs that are still waiting are dropped.
+     */
+    public void shutdown() {
+        this.worker.shutdownNow();
+    }
+
+    /**
+     * An input waiting to be run, together with the callback for its response.
+     */
+    private class Request implements Runnable {
+        private final String input;
+        private final Consumer<String> onResponse;
+        private final boolean isQuery;
+        // Guarded by this Request, so that an interrupt can never reach the thread once it has moved on
+        private boolean isCancelled = false;
+        private Thread runner;
+
+        private Request(String input, Consumer<String> onResponse, boolean isQuery) {
+            this.input = input;
+            this.onResponse = onResponse;
+            this.isQuery = isQuery;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.isCancelled) {
+                    deliver(CANCELLED_MESSAGE);
+                    return;
+                }
+                this.runner = Thread.currentThread();
+            }
+
+            StringBuilder response = new StringBuilder();
+            ResponseSink sink = ResponseSink.of(response);
+            String result;
+            try {
+                CommandQueue.this.duke.respond(this.input, this.isQuery ? new InterruptibleSink(sink) : sink);
+                result = response.toString();
+            } catch (CancellationException e) {
+                result = CANCELLED_MESSAGE;
+            } finally {
+                CommandQueue.this.pendingQueries.remove(this);
+                synchronized (this) {
+                    this.runner = null;
+                    // Clear an interrupt that came in after the query had produced its last piece
+                    Thread.interrupted();
+                }
+            }
+            deliver(result);
+        }
+
+        /**
+         * Marks the query as cancelled and interrupts it if it is running.
+         */
+        private synchronized void cancel() {
+            this.isCancelled = true;
+            if (this.runner != null) {
+                this.runner.interrupt();
+            }
+        }
+
+        private void deliver(String response) {
+            CommandQueue.this.deliverer.execute(() -> this.onResponse.accept(response));
+        }
+    }
+
+    /**
+     * A sink that stops the query it belongs to once the thread running the query is interrupted.
+     */
+    private static class InterruptibleSink implements ResponseSink {
+        private final ResponseSink target;
+
+        private InterruptibleSink(ResponseSink target) {
+            this.target = target;
+        }
+
+        @Override
+        public void append(CharSequence text) {
+            checkNotInterrupted();
+            this.target.append(text);
+        }
+
+        @Override
+        public void append(char c) {
+            checkNotInterrupted();
+            this.target.append(c);
+        }
+
+        private static void checkNotInterrupted() {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package duke.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A ConversationHistory keeps the most recent messages of the conversation in memory, up to a fixed capacity,
+ * so that a long session does not keep every message alive. Older messages are appended to an archive file
+ * when they leave memory, and can be read back a page at a time with {@link #loadEarlier(int)}.
+ * Messages that were read back stay in memory, on top of the capacity, until {@link #releaseEarlier()} is called.
+ * The messages in memory always form one unbroken run of the conversation.
+ */
+public class ConversationHistory {
+    private static final char USER_MARKER = 'U';
+    private static final char DUKE_MARKER = 'D';
+
+    private final int capacity;
+    private final Path archivePath;
+    private final ArrayDeque<DialogMessage> messages = new ArrayDeque<>();
+    private long nextSequence = 0;
+    // Set while messages loaded back from the archive are being looked at, so that they are not trimmed away
+    private boolean isHoldingEarlier = false;
+
+    // Messages 0 to archivedCount - 1 are in the archive; message i starts at archiveOffsets[i]
+    private long archivedCount = 0;
+    private long[] archiveOffsets = new long[64];
+    private long archiveLength = 0;
+    private OutputStream archive;
+    private boolean isArchiveBroken = false;
+
+    /**
+     * Creates an empty ConversationHistory.
+     *
+     * @param capacity The number of messages to keep in memory
+     * @param archivePath The file that older messages are written to, or null to discard them
+     */
+    public ConversationHistory(int capacity, Path archivePath) {
+        assert capacity > 0 : "The capacity should be positive";
+        this.capacity = capacity;
+        this.archivePath = archivePath;
+    }
+
+    /**
+     * Adds a new message to the end of the conversation.
+     * Call {@link #trimToCapacity()} afterwards to move the oldest messages out of memory.
+     *
+     * @param isUser Whether the message was typed by the user
+     * @param text The text of the message
+     * @return The message that was added
+     */
+    public DialogMessage add(boolean isUser, String text) {
+        DialogMessage message = new DialogMessage(this.nextSequence++, isUser, text);
+        this.messages.addLast(message);
+        return message;
+    }
+
+    /**
+     * Removes the oldest messages from memory until at most the capacity is left, writing each one
+     * to the archive the first time it leaves memory. If the archive cannot be written, archiving stops and
+     * the messages that leave memory afterwards are discarded.
+     * Nothing is removed while messages loaded by {@link #loadEarlier(int)} are held.
+     *
+     * @return The number of messages removed, always from the start of the messages in memory
+     */
+    public int trimToCapacity() {
+        if (this.isHoldingEarlier) {
+            return 0;
+        }
+        int removed = 0;
+        while (this.messages.size() > this.capacity) {
+            DialogMessage message = this.messages.pollFirst();
+            removed++;
+            // Messages that were loaded back from the archive are already in it
+            if (message.getSequence() == this.archivedCount) {
+                archive(message);
+            }
+        }
+        if (removed > 0) {
+            flushArchive();
+        }
+        return removed;
+    }
+
+    /**
+     * Returns whether there are earlier messages in the archive that can be loaded back into memory.
+     *
+     * @return true if {@link #loadEarlier(int)} would load at least one message
+     */
+    public boolean hasEarlier() {
+        long first = getFirstSequence();
+        return first > 0 && first <= this.archivedCount;
+    }
+
+    /**
+     * Reads up to the given number of messages that come just before the messages in memory back from the archive,
+     * and puts them back in memory. They are held in memory until {@link #releaseEarlier()} is called.
+     *
+     * @param count The maximum number of messages to load
+     * @return The messages that were loaded, from the oldest to the newest
+     * @throws IOException if the archive cannot be read
+     */
+    public List<DialogMessage> loadEarlier(int count) throws IOException {
+        if (!hasEarlier()) {
+            return List.of();
+        }
+        long end = getFirstSequence();
+        long start = Math.max(0, end - count);
+        long startOffset = this.archiveOffsets[(int) start];
+        long endOffset = end < this.archivedCount ? this.archiveOffsets[(int) end] : this.archiveLength;
+
+        byte[] bytes = new byte[(int) (endOffset - startOffset)];
+        try (RandomAccessFile file = new RandomAccessFile(this.archivePath.toFile(), "r")) {
+            file.seek(startOffset);
+            file.readFully(bytes);
+        }
+
+        List<DialogMessage> loaded = new ArrayList<>((int) (end - start));
+        int lineStart = 0;
+        for (long sequence = start; sequence < end; sequence++) {
+            int lineEnd = lineStart;
+            while (bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            loaded.add(decode(sequence, new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8)));
+            lineStart = lineEnd + 1;
+        }
+        for (int i = loaded.size() - 1; i >= 0; i--) {
+            this.messages.addFirst(loaded.get(i));
+        }
+        this.isHoldingEarlier = true;
+        return loaded;
+    }
+
+    /**
+     * Returns whether messages loaded by {@link #loadEarlier(int)} are held in memory.
+     *
+     * @return true if {@link #trimToCapacity()} leaves every message in memory
+     */
+    public boolean isHoldingEarlier() {
+        return this.isHoldingEarlier;
+    }
+
+    /**
+     * Lets the next {@link #trimToCapacity()} remove the messages loaded by {@link #loadEarlier(int)},
+     * such as once the user has gone back to the newest messages.
+     */
+    public void releaseEarlier() {
+        this.isHoldingEarlier = false;
+    }
+
+    /**
+     * Returns the number of messages in memory.
+     *
+     * @return The number of messages in memory
+     */
+    public int getSize() {
+        return this.messages.size();
+    }
+
+    /**
+     * Returns the sequence number of the oldest message in memory, or of the next message if there is none.
+     *
+     * @return The sequence number of the oldest message in memory
+     */
+    public long getFirstSequence() {
+        DialogMessage first = this.messages.peekFirst();
+        return first == null ? this.nextSequence : first.getSequence();
+    }
+
+    /**
+     * Closes the archive file. Messages that leave memory afterwards are discarded.
+     */
+    public void close() {
+        this.isArchiveBroken = true;
+        if (this.archive != null) {
+            try {
+                this.archive.close();
+            } catch (IOException e) {
+                // Nothing more will be written, so there is nothing to recover
+            }
+            this.archive = null;
+        }
+    }
+
+    /**
+     * Appends the message to the archive as a single line, prefixed by who sent it.
+     *
+     * @param message The message to be archived
+     */
+    private void archive(DialogMessage message) {
+        if (this.archivePath == null || this.isArchiveBroken) {
+            return;
+        }
+        byte[] line = encode(message).getBytes(StandardCharsets.UTF_8);
+        try {
+            if (this.archive == null) {
+                this.archive = new BufferedOutputStream(Files.newOutputStream(this.archivePath,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+            }
+            this.archive.write(line);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+
+        if (this.archivedCount == this.archiveOffsets.length) {
+            this.archiveOffsets = Arrays.copyOf(this.archiveOffsets, this.archiveOffsets.length * 2);
+        }
+        this.archiveOffsets[(int) this.archivedCount++] = this.archiveLength;
+        this.archiveLength += line.length;
+    }
+
+    private void flushArchive() {
+        if (this.archive == null) {
+            return;
+        }
+        try {
+            this.archive.flush();
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    /**
+     * Encodes the message as one line of the archive. Backslashes and line breaks in the text are escaped
+     * so that every message takes up exactly one line.
+     *
+     * @param message The message to be encoded
+     * @return The line, ending with a line break
+     */
+    private static String encode(DialogMessage message) {
+        String text = message.getText();
+        StringBuilder line = new StringBuilder(text.length() + 2);
+        line.append(message.isUser() ? USER_MARKER : DUKE_MARKER);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+                line.append("\\\\");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                line.append("\\r");
+                break;
+            default:
+                line.append(c);
+            }
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * Decodes a line of the archive, without its line break, back into a message.
+     *
+     * @param sequence The sequence number of the message
+     * @param line The line of the archive
+     * @return The decoded message
+     */
+    private static DialogMessage decode(long sequence, String line) {
+        StringBuilder text = new StringBuilder(line.length());
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                text.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return new DialogMessage(sequence, line.charAt(0) == USER_MARKER, text.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package duke.ui;
+
+import java.util.Collections;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+
+/**
+ * A custom control that represents a dialog box consisting of an ImageView to represent the speaker's face
+ * and a label containing text from the speaker.
+ * The layout is the same as in /view/DialogBox.fxml, but it is built in code, because loading the FXML file
+ * parses the XML and sets every property by reflection each time a dialog box is created.
+ */
+public class DialogBox extends HBox {
+    private static final String DIALOG_STYLE = "-fx-background-color: #a9cdfc; -fx-background-radius: 12; "
+            + "-fx-label-padding: 12; -fx-border-color: #000000; -fx-border-radius: 12; -fx-border-width: 2;";
+    private static final Font DIALOG_FONT = new Font("Comic Sans MS Bold", 14.0);
+    private static final double PICTURE_SIZE = 66.0;
+    private static final Insets PADDING = new Insets(5.0);
+    private static final Insets PICTURE_MARGIN = new Insets(0.0, 20.0, 0.0, 20.0);
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+
+    private DialogBox(String text, Image img) {
+        setId("anchor");
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setMinHeight(Region.USE_PREF_SIZE);
+        setPrefWidth(400.0);
+        setPadding(PADDING);
+
+        dialog.setAlignment(Pos.TOP_LEFT);
+        dialog.setCache(true);
+        dialog.setLineSpacing(2.0);
+        dialog.setStyle(DIALOG_STYLE);
+        dialog.setWrapText(true);
+        dialog.setFont(DIALOG_FONT);
+
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+        HBox.setMargin(displayPicture, PICTURE_MARGIN);
+
+        getChildren().addAll(dialog, displayPicture);
+        dialog.setText(text);
+        displayPicture.setImage(img);
+    }
+
+    /**
+     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     */
+    private void flip() {
+        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
+        Collections.reverse(tmp);
+        getChildren().setAll(tmp);
+        setAlignment(Pos.TOP_LEFT);
+    }
+
+    /**
+     * Shows another message in this dialog box, so that the same dialog box can be reused for many messages.
+     * The ImageView is on the right for the user and on the left for Duke.
+     *
+     * @param text The text of the message
+     * @param img The picture of the speaker
+     * @param isUser Whether the message was typed by the user
+     */
+    public void setMessage(String text, Image img, boolean isUser) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        boolean isFlipped = getChildren().get(0) == displayPicture;
+        if (isFlipped == isUser) {
+            flip();
+        }
+        setAlignment(isUser ? Pos.TOP_RIGHT : Pos.TOP_LEFT);
+    }
+
+    public static DialogBox getUserDialog(String text, Image img) {
+        return new DialogBox(text, img);
+    }
+
+    public static DialogBox getDukeDialog(String text, Image img) {
+        var db = new DialogBox(text, img);
+        db.flip();
+        return db;
+    }
+}
@@ -0,0 +1,46 @@
+package duke.ui;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * A cell of the conversation list in the MainWindow. The ListView only creates enough cells to fill the
+ * visible part of the list and reuses them as the user scrolls, so each cell builds its DialogBox once and
+ * then only swaps the message that it shows.
+ */
+public class DialogCell extends ListCell<DialogMessage> {
+    // Leaves room for the vertical scroll bar so that the text wraps instead of scrolling sideways
+    private static final double SCROLL_BAR_ALLOWANCE = 20.0;
+
+    private final Image userImage;
+    private final Image dukeImage;
+    private final DialogBox dialogBox;
+
+    /**
+     * Creates a cell that shows messages with the given pictures of the speakers.
+     *
+     * @param userImage The picture of the user
+     * @param dukeImage The picture of Duke
+     */
+    public DialogCell(Image userImage, Image dukeImage) {
+        this.userImage = userImage;
+        this.dukeImage = dukeImage;
+        this.dialogBox = DialogBox.getUserDialog("", userImage);
+        // Let the width of the list, rather than the width of the text, decide the width of the cell
+        setPrefWidth(0);
+        this.dialogBox.prefWidthProperty().bind(widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+    }
+
+    @Override
+    protected void updateItem(DialogMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        setText(null);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        this.dialogBox.setMessage(message.getText(), message.isUser() ? this.userImage : this.dukeImage,
+                message.isUser());
+        setGraphic(this.dialogBox);
+    }
+}
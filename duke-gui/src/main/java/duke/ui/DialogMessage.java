@@ -0,0 +1,51 @@
+package duke.ui;
+
+/**
+ * A DialogMessage is one entry of the conversation shown in the MainWindow: either a user input or a response
+ * from Duke. Every message has a sequence number that counts the messages of the conversation from 0.
+ */
+public class DialogMessage {
+    private final long sequence;
+    private final boolean isUser;
+    private final String text;
+
+    /**
+     * Creates a message of the conversation.
+     *
+     * @param sequence The position of the message in the conversation, counting from 0
+     * @param isUser Whether the message was typed by the user, rather than sent by Duke
+     * @param text The text of the message
+     */
+    public DialogMessage(long sequence, boolean isUser, String text) {
+        this.sequence = sequence;
+        this.isUser = isUser;
+        this.text = text;
+    }
+
+    /**
+     * Returns the position of the message in the conversation, counting from 0.
+     *
+     * @return The sequence number of the message
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Returns whether the message was typed by the user, rather than sent by Duke.
+     *
+     * @return true if the message was typed by the user
+     */
+    public boolean isUser() {
+        return this.isUser;
+    }
+
+    /**
+     * Returns the text of the message.
+     *
+     * @return The text of the message
+     */
+    public String getText() {
+        return this.text;
+    }
+}
@@ -0,0 +1,23 @@
+package duke.ui;
+
+import java.io.IOException;
+
+import duke.cli.BatchRunner;
+import duke.exception.StorageFileException;
+import javafx.application.Application;
+
+/**
+ * A launcher class to workaround classpath issues.
+ * Starts the GUI, or runs a script of commands without the GUI when started with --batch.
+ */
+public class Launcher {
+    private static final String BATCH_FLAG = "--batch";
+
+    public static void main(String[] args) throws IOException, StorageFileException {
+        if (args.length > 0 && args[0].equals(BATCH_FLAG)) {
+            BatchRunner.main(args);
+            return;
+        }
+        Application.launch(Main.class, args);
+    }
+}
@@ -0,0 +1,88 @@
+package duke.ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import duke.Duke;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+
+/**
+ * A GUI for Duke using FXML.
+ * The window is shown first and the tasks are loaded in the background, so a large storage file
+ * does not hold up the first paint.
+ * With the system property {@code duke.script} set to a file of commands, the commands are sent through the window
+ * and the application exits once they are answered, which is how the class data sharing archive is trained.
+ * The system property {@code duke.file} sets the task file, which is {@code data/tasks.txt} by default.
+ */
+public class Main extends Application {
+    private static final String FILE_PATH = "data/tasks.txt";
+    private static final String FILE_PROPERTY = "duke.file";
+    private static final String SCRIPT_PROPERTY = "duke.script";
+
+    @Override
+    public void start(Stage stage) {
+        try {
+            FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
+            AnchorPane ap = fxmlLoader.load();
+            Scene scene = new Scene(ap);
+            stage.setScene(scene);
+            // Start loading the tasks and set the Duke object in the controller
+            MainWindow mainWindow = fxmlLoader.getController();
+            Duke duke = Duke.startLoading(System.getProperty(FILE_PROPERTY, FILE_PATH), progress ->
+                    Platform.runLater(() -> mainWindow.showLoadProgress(progress)));
+            mainWindow.setDuke(duke);
+            reportFirstPaint(scene);
+            // Set the window icon
+            stage.getIcons().add(new Image("/images/icon.png"));
+            stage.setTitle("Mr. Bear");
+            stage.isResizable();
+            stage.show();
+            runScript(mainWindow);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Sends the commands of the script named by the {@code duke.script} system property through the window,
+     * if the property is set. If the script cannot be read, the application exits instead of waiting for input.
+     *
+     * @param mainWindow The controller of the window
+     */
+    private static void runScript(MainWindow mainWindow) {
+        String script = System.getProperty(SCRIPT_PROPERTY);
+        if (script == null) {
+            return;
+        }
+        try {
+            mainWindow.runScript(Files.readAllLines(Paths.get(script), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Reports the first paint of the scene to the StartupTimer, once the first layout pass is done.
+     *
+     * @param scene The scene of the window
+     */
+    private static void reportFirstPaint(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                StartupTimer.reached(StartupTimer.FIRST_PAINT);
+                // Do not change the listeners while the scene is going through them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
+    }
+}
@@ -0,0 +1,250 @@
+package duke.ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import duke.Duke;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
+import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.AnchorPane;
+
+/**
+ * Controller for MainWindow. Provides the layout for the other controls.
+ * The conversation is shown in a ListView, which only lays out the messages that are on screen,
+ * and at most {@link #MAX_MESSAGES_SHOWN} messages are kept in memory. Older messages are moved to
+ * an archive file and can be brought back a page at a time with the "Show earlier messages" button.
+ * Messages that were brought back stay in the list until the user sends the next input.
+ * Inputs are run by a {@link CommandQueue} off the JavaFX Application Thread, so the window stays responsive
+ * while a slow command runs. A spinner shows while responses are pending, and pending queries can be
+ * stopped with the STOP button or the Escape key.
+ * The window is usable while the tasks are still being loaded: a progress bar shows how far the loading
+ * has got, and inputs sent in the meantime are answered once it is done.
+ * A script of inputs can also be sent through the window with {@link #runScript(List)}, such as for a training run.
+ */
+public class MainWindow extends AnchorPane {
+    private static final int MAX_MESSAGES_SHOWN = 500;
+    private static final int EARLIER_PAGE_SIZE = 100;
+    private static final String GREETING = "Hello from Mr. Bear, your personal task manager.\n"
+            + "What can I do for you?";
+
+    @FXML
+    private ProgressBar loadProgress;
+    @FXML
+    private ListView<DialogMessage> dialogList;
+    @FXML
+    private Button earlierButton;
+    @FXML
+    private TextField userInput;
+    @FXML
+    private Button sendButton;
+    @FXML
+    private ProgressIndicator pendingIndicator;
+    @FXML
+    private Button stopButton;
+
+    private Duke duke;
+    private CommandQueue commandQueue;
+    // Only read and written on the JavaFX Application Thread
+    private int noOfPendingInputs = 0;
+    // Set by runScript, to close the window once the last input of the script has been answered
+    private boolean isClosingWhenIdle = false;
+    private ConversationHistory history;
+    private final ObservableList<DialogMessage> messages = FXCollections.observableArrayList();
+
+    private final Image userImage = new Image(Objects.requireNonNull(this.getClass()
+            .getResourceAsStream("/images/DaUser.png")));
+    private final Image dukeImage = new Image(Objects
+            .requireNonNull(this.getClass().getResourceAsStream("/images/DaDuke.png")));
+
+    /**
+     * Initializes the conversation list and display the welcome message.
+     */
+    @FXML
+    public void initialize() {
+        history = new ConversationHistory(MAX_MESSAGES_SHOWN, createArchive());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new DialogCell(userImage, dukeImage));
+        earlierButton.managedProperty().bind(earlierButton.visibleProperty());
+        loadProgress.managedProperty().bind(loadProgress.visibleProperty());
+        pendingIndicator.managedProperty().bind(pendingIndicator.visibleProperty());
+        stopButton.managedProperty().bind(stopButton.visibleProperty());
+        stopButton.visibleProperty().bind(pendingIndicator.visibleProperty());
+        userInput.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE) {
+                handleStop();
+            }
+        });
+        show(List.of(history.add(false, GREETING)));
+    }
+
+    /**
+     * Sets the Duke that answers the inputs. Its TaskList may still be loading.
+     *
+     * @param d The Duke that answers the inputs
+     */
+    public void setDuke(Duke d) {
+        this.duke = d;
+        this.commandQueue = new CommandQueue(d, Platform::runLater);
+        d.whenLoaded().whenComplete((ignored, error) -> Platform.runLater(this::handleLoaded));
+    }
+
+    /**
+     * Shows how far the loading of the tasks has got.
+     *
+     * @param progress The fraction of the tasks that have been loaded, from 0 to 1
+     */
+    public void showLoadProgress(double progress) {
+        loadProgress.setProgress(progress);
+    }
+
+    /**
+     * Hides the progress bar once the loading of the tasks is over. If the tasks could not be loaded,
+     * the reply to each input explains why.
+     */
+    private void handleLoaded() {
+        loadProgress.setVisible(false);
+        StartupTimer.reached(StartupTimer.TASKS_LOADED);
+    }
+
+    /**
+     * Adds a message echoing user input to the end of the conversation and queues the input to be run.
+     * Duke's reply is added once it arrives. Clears the user input after processing.
+     */
+    @FXML
+    private void handleUserInput() {
+        String input = userInput.getText();
+        // The user is back at the newest messages, so the earlier ones may leave memory again
+        history.releaseEarlier();
+        submit(input);
+        userInput.clear();
+    }
+
+    /**
+     * Sends every input of the script as if the user had typed it, and closes the window once all of them
+     * have been answered. A training run uses this so that it loads the same classes as a real session.
+     *
+     * @param inputs The inputs of the script, of which blank ones are skipped
+     */
+    public void runScript(List<String> inputs) {
+        isClosingWhenIdle = true;
+        for (String input : inputs) {
+            if (!input.isBlank()) {
+                submit(input);
+            }
+        }
+        if (noOfPendingInputs == 0) {
+            close();
+        }
+    }
+
+    /**
+     * Adds a message echoing the input to the end of the conversation and queues the input to be run.
+     *
+     * @param input User input
+     */
+    private void submit(String input) {
+        show(List.of(history.add(true, input)));
+        setNoOfPendingInputs(noOfPendingInputs + 1);
+        commandQueue.submit(input, this::handleResponse);
+    }
+
+    /**
+     * Adds Duke's reply to the end of the conversation. Runs on the JavaFX Application Thread.
+     *
+     * @param response The response from Duke
+     */
+    private void handleResponse(String response) {
+        setNoOfPendingInputs(noOfPendingInputs - 1);
+        show(List.of(history.add(false, response)));
+        StartupTimer.reached(StartupTimer.FIRST_RESPONSE);
+
+        if (Objects.equals(response, "Bye. Hope to see you again soon!")
+                || (isClosingWhenIdle && noOfPendingInputs == 0)) {
+            close();
+        }
+    }
+
+    /**
+     * Stops running inputs, closes the archive of the conversation and exits the application.
+     */
+    private void close() {
+        commandQueue.shutdown();
+        history.close();
+        Platform.exit();
+    }
+
+    /**
+     * Stops the queries that are waiting or running. Their replies say that they were cancelled.
+     */
+    @FXML
+    private void handleStop() {
+        commandQueue.cancelQueries();
+    }
+
+    private void setNoOfPendingInputs(int noOfPendingInputs) {
+        this.noOfPendingInputs = noOfPendingInputs;
+        pendingIndicator.setVisible(noOfPendingInputs > 0);
+    }
+
+    /**
+     * Brings the page of messages just before the first message shown back from the archive.
+     */
+    @FXML
+    private void handleShowEarlier() {
+        try {
+            List<DialogMessage> earlier = history.loadEarlier(EARLIER_PAGE_SIZE);
+            messages.addAll(0, earlier);
+            // Keep the message that was at the top in view
+            dialogList.scrollTo(earlier.size());
+        } catch (IOException e) {
+            earlierButton.setDisable(true);
+        }
+        earlierButton.setVisible(history.hasEarlier());
+    }
+
+    /**
+     * Appends the new messages to the list, drops the oldest ones if there are too many
+     * and scrolls to the newest message, unless the user is looking at earlier messages.
+     *
+     * @param added The messages that were added to the history
+     */
+    private void show(List<DialogMessage> added) {
+        messages.addAll(added);
+        int removed = history.trimToCapacity();
+        if (removed > 0) {
+            messages.remove(0, removed);
+        }
+        if (!history.isHoldingEarlier()) {
+            dialogList.scrollTo(messages.size() - 1);
+        }
+        earlierButton.setVisible(history.hasEarlier());
+    }
+
+    /**
+     * Creates a temporary file for the messages that no longer fit in memory.
+     *
+     * @return The path to the file, or null if it cannot be created, in which case old messages are discarded
+     */
+    private static Path createArchive() {
+        try {
+            Path archive = Files.createTempFile("mr-bear-conversation", ".txt");
+            archive.toFile().deleteOnExit();
+            return archive;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
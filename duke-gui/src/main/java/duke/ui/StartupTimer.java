@@ -0,0 +1,36 @@
+package duke.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A StartupTimer reports how long after the JVM started each startup milestone was reached, such as the first
+ * paint of the window and the first response to the user. Each milestone is reported only the first time it is
+ * reached. Reports are printed to the standard error when the system property {@code duke.startup.timing}
+ * is set to true, for example with {@code java -Dduke.startup.timing=true -jar Mr.Bear.jar}.
+ */
+public class StartupTimer {
+    public static final String FIRST_PAINT = "first paint";
+    public static final String TASKS_LOADED = "tasks loaded";
+    public static final String FIRST_RESPONSE = "first response";
+
+    private static final boolean IS_ENABLED = Boolean.getBoolean("duke.startup.timing");
+    private static final Set<String> REACHED = ConcurrentHashMap.newKeySet();
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Reports the time since the JVM started, if this is the first time the milestone is reached.
+     *
+     * @param milestone The name of the milestone
+     */
+    public static void reached(String milestone) {
+        if (!IS_ENABLED || !REACHED.add(milestone)) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println("Startup: " + milestone + " after " + elapsed + " ms");
+    }
+}
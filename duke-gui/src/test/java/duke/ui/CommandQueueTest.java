@@ -0,0 +1,84 @@
+package duke.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import duke.Duke;
+
+public class CommandQueueTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Returns a task file in the temporary folder. Storage joins paths onto the working directory,
+     * so the path is given relative to it.
+     */
+    private String getTaskFilePath() {
+        return Paths.get("").toAbsolutePath().relativize(this.tempDir.resolve("tasks.txt")).toString();
+    }
+
+    @Test
+    public void submit_mixedCommands_responsesInSubmissionOrder() throws InterruptedException {
+        CommandQueue queue = new CommandQueue(new Duke(getTaskFilePath()), Runnable::run);
+        List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(4);
+
+        for (String input : new String[] {"todo read book", "list", "todo return book", "list"}) {
+            queue.submit(input, response -> {
+                responses.add(response);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(responses.get(1).contains("read book"));
+        assertFalse(responses.get(1).contains("return book"));
+        assertTrue(responses.get(3).contains("return book"));
+        queue.shutdown();
+    }
+
+    @Test
+    public void cancelQueries_queryWaiting_queryCancelledAndCommandsKept() throws InterruptedException {
+        CommandQueue queue = new CommandQueue(new Duke(getTaskFilePath()), Runnable::run);
+        List<String> responses = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        // Hold up the background thread while the query waits behind the first command
+        queue.submit("todo read book", response -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responses.add(response);
+            done.countDown();
+        });
+        for (String input : new String[] {"list", "todo return book"}) {
+            queue.submit(input, response -> {
+                responses.add(response);
+                done.countDown();
+            });
+        }
+        queue.cancelQueries();
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(responses.get(0).contains("read book"));
+        assertEquals(CommandQueue.CANCELLED_MESSAGE, responses.get(1));
+        assertTrue(responses.get(2).contains("return book"));
+        queue.shutdown();
+    }
+}
@@ -0,0 +1,97 @@
+package duke.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConversationHistoryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void trimToCapacity_overCapacity_oldestMessagesRemoved() {
+        ConversationHistory history = new ConversationHistory(3, tempDir.resolve("archive.txt"));
+        for (int i = 0; i < 5; i++) {
+            history.add(i % 2 == 0, "message " + i);
+        }
+
+        assertEquals(2, history.trimToCapacity());
+        assertEquals(3, history.getSize());
+        assertEquals(2, history.getFirstSequence());
+        assertTrue(history.hasEarlier());
+    }
+
+    @Test
+    public void loadEarlier_archivedMessages_messagesRestoredInOrder() throws IOException {
+        ConversationHistory history = new ConversationHistory(2, tempDir.resolve("archive.txt"));
+        history.add(true, "list");
+        history.add(false, "Here are the tasks in your list:\n    1.[T][ ] read \\ write");
+        history.add(true, "bye");
+        history.add(false, "Bye. Hope to see you again soon!");
+        history.trimToCapacity();
+
+        List<DialogMessage> earlier = history.loadEarlier(1);
+        assertEquals(1, earlier.size());
+        assertEquals("Here are the tasks in your list:\n    1.[T][ ] read \\ write", earlier.get(0).getText());
+        assertFalse(earlier.get(0).isUser());
+        assertEquals(1, earlier.get(0).getSequence());
+
+        earlier = history.loadEarlier(5);
+        assertEquals(1, earlier.size());
+        assertEquals("list", earlier.get(0).getText());
+        assertTrue(earlier.get(0).isUser());
+        assertFalse(history.hasEarlier());
+    }
+
+    @Test
+    public void trimToCapacity_afterLoadEarlier_messagesNotArchivedTwice() throws IOException {
+        ConversationHistory history = new ConversationHistory(1, tempDir.resolve("archive.txt"));
+        history.add(true, "first");
+        history.add(true, "second");
+        history.trimToCapacity();
+        history.loadEarlier(1);
+        history.add(true, "third");
+        history.releaseEarlier();
+
+        assertEquals(2, history.trimToCapacity());
+        assertEquals("second", history.loadEarlier(1).get(0).getText());
+        assertEquals("first", history.loadEarlier(1).get(0).getText());
+    }
+
+    @Test
+    public void trimToCapacity_earlierMessagesHeld_nothingRemovedUntilReleased() throws IOException {
+        ConversationHistory history = new ConversationHistory(2, tempDir.resolve("archive.txt"));
+        for (int i = 0; i < 4; i++) {
+            history.add(true, "message " + i);
+        }
+        history.trimToCapacity();
+        history.loadEarlier(2);
+        history.add(false, "late response");
+
+        assertEquals(0, history.trimToCapacity());
+        assertEquals(5, history.getSize());
+        assertEquals(0, history.getFirstSequence());
+
+        history.releaseEarlier();
+        assertEquals(3, history.trimToCapacity());
+        assertEquals(3, history.getFirstSequence());
+    }
+
+    @Test
+    public void hasEarlier_noArchive_false() {
+        ConversationHistory history = new ConversationHistory(1, null);
+        history.add(true, "first");
+        history.add(true, "second");
+        history.trimToCapacity();
+
+        assertEquals(1, history.getSize());
+        assertFalse(history.hasEarlier());
+    }
+}
@@ -1,69 +0,0 @@
-package duke.ui;
-
-import java.util.Objects;
-
-import duke.Duke;
-import javafx.application.Platform;
-import javafx.fxml.FXML;
-import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
-import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
-import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
-
-/**
- * Controller for MainWindow. Provides the layout for the other controls.
- */
-public class MainWindow extends AnchorPane {
-    @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
-    @FXML
-    private TextField userInput;
-    @FXML
-    private Button sendButton;
-
-    private Duke duke;
-
-    private final Image userImage = new Image(Objects.requireNonNull(this.getClass()
-            .getResourceAsStream("/images/DaUser.png")));
-    private final Image dukeImage = new Image(Objects
-            .requireNonNull(this.getClass().getResourceAsStream("/images/DaDuke.png")));
-
-    /**
-     * Initializes the DialogBox and display the welcome message.
-     */
-    @FXML
-    public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        dialogContainer.getChildren().addAll(
-                DialogBox.getDukeDialog("Hello from Mr. Bear, your personal task manager.\n"
-                        + "What can I do for you?", dukeImage)
-        );
-    }
-
-    public void setDuke(Duke d) {
-        this.duke = d;
-    }
-
-    /**
-     * Creates two dialog boxes, one echoing user input and the other containing
-     * Duke's reply and then appends them to the dialog container. Clears the user input after processing.
-     */
-    @FXML
-    private void handleUserInput() {
-        String input = userInput.getText();
-        String response = duke.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeDialog(response, dukeImage)
-        );
-        userInput.clear();
-
-        if (Objects.equals(response, "Bye. Hope to see you again soon!")) {
-            Platform.exit();
-        }
-    }
-}